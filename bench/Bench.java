@@ -0,0 +1,280 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/***
+ * Class with the small measuring harness shared by every benchmark in this directory
+ * Reports throughput, allocation (the same numbers JMH's gc profiler prints) and p99 latency
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class Bench {
+    // Tuning, overridable with -Dbench.warmup / -Dbench.measure (milliseconds)
+    public static final long WARMUP_MILLIS = Long.getLong("bench.warmup", 500);
+    public static final long MEASURE_MILLIS = Long.getLong("bench.measure", 1000);
+    private static final int MAX_SAMPLES = 1 << 20;
+    private static final long[] samples = new long[MAX_SAMPLES];
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Results are folded in here so the JIT cannot throw the measured work away
+    private static int sink;
+
+    /***
+     * Inner class holding the numbers of one measurement
+     */
+    public static class Result {
+        public final double opsPerSecond;
+        public final double bytesPerOp;
+        public final double allocMBPerSecond;
+        public final long p99Nanos;
+        public final long gcCount;
+        /***
+         * Constructor with all of the measured values
+         */
+        Result(double opsPerSecond, double bytesPerOp, double allocMBPerSecond, long p99Nanos, long gcCount) {
+            this.opsPerSecond = opsPerSecond;
+            this.bytesPerOp = bytesPerOp;
+            this.allocMBPerSecond = allocMBPerSecond;
+            this.p99Nanos = p99Nanos;
+            this.gcCount = gcCount;
+        }
+    }
+
+    /***
+     * Method to keep a value alive so the computation producing it is not eliminated
+     * @param value - value being consumed
+     */
+    public static void consume(Object value) { //O(1)
+        if (value == Bench.class)
+            sink++;
+    }
+
+    /***
+     * Method to keep a primitive value alive so the computation producing it is not eliminated
+     * @param value - value being consumed
+     */
+    public static void consume(long value) { //O(1)
+        sink += (int) value;
+    }
+
+    /***
+     * Method to measure one operation using the default warmup and measurement times
+     * @param op - operation being measured, one call is one op
+     * @return - measured Result
+     */
+    public static Result measure(Runnable op) {
+        return measure(op, WARMUP_MILLIS, MEASURE_MILLIS);
+    }
+
+    /***
+     * Method to measure one operation
+     * Throughput and allocation come from batches whose size doubles until a batch takes a millisecond,
+     * so slow operations (one O(n) call can take longer than the whole budget) still finish on time.
+     * Latency comes from a second pass that times every call on its own.
+     * @param op - operation being measured, one call is one op
+     * @param warmupMillis - time spent running the op before measuring
+     * @param measureMillis - time spent in each of the throughput and latency passes
+     * @return - measured Result
+     */
+    public static Result measure(Runnable op, long warmupMillis, long measureMillis) {
+        runFor(op, warmupMillis);
+
+        long gcBefore = gcCount();
+        long allocBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long deadline = start + measureMillis * 1_000_000L;
+        long ops = 0;
+        int batch = 1;
+        long now = start;
+        while (now < deadline) {
+            long batchStart = now;
+            for (int i = 0; i < batch; i++)
+                op.run();
+            ops += batch;
+            now = System.nanoTime();
+            if (now - batchStart < 1_000_000L && batch < (1 << 20))
+                batch <<= 1;
+        }
+        long elapsed = now - start;
+        long allocated = allocatedBytes() - allocBefore;
+        long gcs = gcCount() - gcBefore;
+
+        int count = 0;
+        long latencyDeadline = System.nanoTime() + measureMillis * 1_000_000L;
+        while (count < MAX_SAMPLES) {
+            long t0 = System.nanoTime();
+            op.run();
+            long t1 = System.nanoTime();
+            samples[count++] = t1 - t0;
+            if (t1 >= latencyDeadline)
+                break;
+        }
+        Arrays.sort(samples, 0, count);
+        long p99 = samples[Math.min(count - 1, (int) (count * 0.99))];
+
+        double seconds = elapsed / 1e9;
+        return new Result(ops / seconds, (double) allocated / ops, allocated / seconds / (1024 * 1024), p99, gcs);
+    }
+
+    /***
+     * Method to run an operation repeatedly for a given time without recording anything
+     * @param op - operation being run
+     * @param millis - time to run for
+     */
+    public static void runFor(Runnable op, long millis) {
+        long deadline = System.nanoTime() + millis * 1_000_000L;
+        int batch = 1;
+        while (System.nanoTime() < deadline) {
+            long batchStart = System.nanoTime();
+            for (int i = 0; i < batch; i++)
+                op.run();
+            if (System.nanoTime() - batchStart < 1_000_000L && batch < (1 << 20))
+                batch <<= 1;
+        }
+    }
+
+    /***
+     * Method to run a benchmark once per target, each in its own JVM, like JMH's forks
+     * Without it the first target's classes make the shared call sites megamorphic for every target after it
+     * @param main - class whose main method is run again in the child JVMs
+     * @param args - arguments passed on to the children
+     * @param targets - names of the targets, one child runs each
+     * @return - true in the parent, which has nothing left to do, false in a child, which should run selected() targets
+     */
+    public static boolean fork(Class<?> main, String[] args, String... targets) {
+        if (System.getProperty("bench.target") != null)
+            return false;
+        for (String target : targets) {
+            java.util.List<String> command = new java.util.ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+            command.add("-Dbench.target=" + target);
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(main.getName());
+            command.addAll(Arrays.asList(args));
+            try {
+                int status = new ProcessBuilder(command).inheritIO().start().waitFor();
+                if (status != 0)
+                    throw new IllegalStateException(target + " exited with status " + status);
+            }
+            catch (java.io.IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /***
+     * Method to check if a target should run in this JVM
+     * @param target - name of the target
+     * @return - true if no fork is selected or this JVM was forked for the target
+     */
+    public static boolean selected(String target) {
+        String selected = System.getProperty("bench.target");
+        return selected == null || selected.equals(target);
+    }
+
+    /***
+     * Method to return the number of bytes allocated by the current thread so far
+     * @return - allocated bytes
+     */
+    public static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /***
+     * Method to return the total number of collections run by every garbage collector so far
+     * @return - collection count
+     */
+    public static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            total += Math.max(0, gc.getCollectionCount());
+        return total;
+    }
+
+    /***
+     * Method to return the total time spent in every garbage collector so far
+     * @return - collection time in milliseconds
+     */
+    public static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            total += Math.max(0, gc.getCollectionTime());
+        return total;
+    }
+
+    /***
+     * Method to return the heap currently in use after asking for a collection
+     * @return - used heap in bytes
+     */
+    public static long usedHeap() {
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /***
+     * Method to print the header line matching row()
+     * @param columns - leading column names
+     */
+    public static void header(String... columns) {
+        StringBuilder sb = new StringBuilder();
+        for (String c : columns)
+            sb.append(String.format("%-20s", c));
+        sb.append(String.format("%16s %12s %12s %14s %6s", "ops/s", "B/op", "alloc MB/s", "p99 ns", "gcs"));
+        System.out.println(sb);
+    }
+
+    /***
+     * Method to print one result line
+     * @param result - Result being printed
+     * @param columns - leading column values
+     */
+    public static void row(Result result, Object... columns) {
+        StringBuilder sb = new StringBuilder();
+        for (Object c : columns)
+            sb.append(String.format("%-20s", c));
+        sb.append(String.format("%16.1f %12.1f %12.1f %14d %6d", result.opsPerSecond, result.bytesPerOp,
+                result.allocMBPerSecond, result.p99Nanos, result.gcCount));
+        System.out.println(sb);
+    }
+
+    /***
+     * Method to build the benchmark rows: the lines of countries.txt, then synthetic rows made from them
+     * @param size - number of rows wanted
+     * @return - array of rows
+     */
+    public static String[] rows(int size) {
+        ArrayList<String> countries = new ArrayList<>();
+        Test.readFromFile(countries, "countries.txt");
+        String[] rows = new String[size];
+        for (int i = 0; i < size; i++) {
+            String country = countries.get(i % countries.size());
+            rows[i] = i < countries.size() ? country : country + " #" + i;
+        }
+        return rows;
+    }
+
+    /***
+     * Method to build an array of random indices used to pick positions without allocating
+     * @param bound - indices are in [0, bound)
+     * @return - array whose length is a power of two
+     */
+    public static int[] randomIndices(int bound) {
+        java.util.Random random = new java.util.Random(42);
+        int[] indices = new int[1 << 16];
+        for (int i = 0; i < indices.length; i++)
+            indices[i] = random.nextInt(bound);
+        return indices;
+    }
+}
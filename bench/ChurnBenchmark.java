@@ -0,0 +1,61 @@
+/***
+ * Class to measure queue-like churn on the linked lists with and without the node pool
+ * One op is an addLast() followed by a removeFirst() on a list holding depth elements, so the size never changes
+ * and every allocation is a node that dies young. The B/op and gcs columns show what the pool saves.
+ * Usage: java -Xmx4g -cp out ChurnBenchmark [depth,depth,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ChurnBenchmark {
+    private static final String[] TARGETS = { "LinkedList", "LinkedList pooled", "DoublyLinkedList",
+            "DoublyLinkedList pooled" };
+    // Nodes kept by the pooled lists, a cycle only needs one
+    private static final int POOL = 64;
+    private static int next;
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of queue depths
+     */
+    public static void main(String[] args) {
+        String depthArg = args.length > 0 ? args[0] : "16,100000";
+        if (Bench.fork(ChurnBenchmark.class, args, TARGETS))
+            return;
+        String target = System.getProperty("bench.target");
+        boolean pooled = target.endsWith("pooled");
+        Bench.header("list", "depth", "op");
+        for (String part : depthArg.split(",")) {
+            int depth = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(Math.max(depth, 1024));
+            Runnable op;
+            if (target.startsWith("LinkedList")) {
+                LinkedList<String> list = new LinkedList<>();
+                if (pooled)
+                    list.enableNodePool(POOL);
+                for (int i = 0; i < depth; i++)
+                    list.addLast(rows[i]);
+                op = () -> {
+                    list.addLast(rows[next++ & 1023]);
+                    list.removeFirst();
+                };
+            }
+            else {
+                DoublyLinkedList<String> list = new DoublyLinkedList<>();
+                if (pooled)
+                    list.enableNodePool(POOL);
+                for (int i = 0; i < depth; i++)
+                    list.addLast(rows[i]);
+                op = () -> {
+                    list.addLast(rows[next++ & 1023]);
+                    list.removeFirst();
+                };
+            }
+            Bench.row(Bench.measure(op), target, depth, "cycle");
+            Bench.row(Bench.measure(() -> {
+                for (int i = 0; i < 10_000_000; i++)
+                    op.run();
+            }), target, depth, "10M cycles");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+import java.util.concurrent.CountDownLatch;
+
+/***
+ * Class to compare many threads appending to one ArrayList behind a global lock with ConcurrentAppendList
+ * Every run appends the same total number of rows split evenly across the producers
+ * Usage: java -Xmx4g -cp out ContentionBenchmark [rows] [threads,threads,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ContentionBenchmark {
+
+    /***
+     * Main method
+     * @param args - optional total row count and comma separated list of producer counts
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        String threadArg = args.length > 1 ? args[1] : "1,2,4,8,16,32";
+        if (Bench.fork(ContentionBenchmark.class, args, "locked ArrayList", "ConcurrentAppendList"))
+            return;
+        String target = System.getProperty("bench.target");
+        String[] data = Bench.rows(1 << 16);
+        System.out.println("# " + target + ", " + Runtime.getRuntime().availableProcessors() + " processors available");
+        for (String part : threadArg.split(",")) {
+            int threads = Integer.parseInt(part.trim());
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < 5; round++) {
+                List<String> list = target.equals("ConcurrentAppendList") ? new ConcurrentAppendList<>() : new ArrayList<>();
+                Object lock = new Object();
+                boolean locked = !(list instanceof ConcurrentAppendList);
+                CountDownLatch start = new CountDownLatch(1);
+                Thread[] producers = new Thread[threads];
+                for (int t = 0; t < threads; t++) {
+                    int count = rows / threads + (t < rows % threads ? 1 : 0);
+                    producers[t] = new Thread(() -> {
+                        try {
+                            start.await();
+                        }
+                        catch (InterruptedException e) {
+                            return;
+                        }
+                        for (int i = 0; i < count; i++) {
+                            String row = data[i & 0xFFFF];
+                            if (locked) {
+                                synchronized (lock) {
+                                    list.add(row);
+                                }
+                            }
+                            else {
+                                list.add(row);
+                            }
+                        }
+                    });
+                    producers[t].start();
+                }
+                long begin = System.nanoTime();
+                start.countDown();
+                for (Thread producer : producers)
+                    producer.join();
+                best = Math.min(best, System.nanoTime() - begin);
+                if (list.size() != rows)
+                    throw new IllegalStateException("lost rows: " + list.size());
+            }
+            System.out.printf("%-22s %3d producers %,14.0f appends/s%n", target, threads, rows / (best / 1e9));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+import java.util.ListIterator;
+
+/***
+ * Class to compare an ArrayList holding a fresh String per element, as Test.readFromFile leaves it, with a
+ * DictionaryList holding the same elements, at several cardinalities
+ * Each element is a new String with its own chars, copied from one of the first cardinality rows of Bench.rows,
+ * so the heap reported includes the Strings, which is where duplicate contents cost the most
+ * Usage: java -Xmx4g -cp out DictionaryBenchmark [size [cardinality,cardinality,...]]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class DictionaryBenchmark {
+    private static final int MASK = (1 << 16) - 1;
+    private static int next;
+
+    /***
+     * Main method
+     * @param args - optional number of elements and comma separated list of cardinalities
+     */
+    public static void main(String[] args) {
+        if (Bench.fork(DictionaryBenchmark.class, args, "ArrayList", "DictionaryList"))
+            return;
+        String target = System.getProperty("bench.target");
+        int size = args.length > 0 ? Integer.parseInt(args[0].trim()) : 10000000;
+        String cardinalityArg = args.length > 1 ? args[1] : "2,226,5000,100000,1000000";
+        Bench.header("list", "cardinality", "op");
+        for (String part : cardinalityArg.split(",")) {
+            int cardinality = Integer.parseInt(part.trim());
+            String[] vocabulary = Bench.rows(cardinality);
+            long before = Bench.usedHeap();
+            List<String> list = target.equals("ArrayList") ? new ArrayList<>() : new DictionaryList<>();
+            for (int i = 0; i < size; i++)
+                list.add(String.valueOf(vocabulary[i % cardinality].toCharArray()));
+            long bytes = Bench.usedHeap() - before;
+            String width = list instanceof DictionaryList ? ", " + ((DictionaryList<String>) list).codeBytes() + " byte codes" : "";
+            System.out.printf("# %s keeps %.1f MB for %d elements, %.1f B/element%s%n",
+                    target, bytes / 1048576.0, size, (double) bytes / size, width);
+            int[] indices = Bench.randomIndices(size);
+            Bench.row(Bench.measure(new FootprintBenchmark.Traverse(list)), target, cardinality, "full traversal");
+            if (list instanceof ArrayList) {
+                ArrayList<String> array = (ArrayList<String>) list;
+                Bench.row(Bench.measure(() -> Bench.consume(array.get(indices[next++ & MASK]))), target, cardinality, "get");
+            }
+            else {
+                DictionaryList<String> dictionary = (DictionaryList<String>) list;
+                Bench.row(Bench.measure(() -> Bench.consume(dictionary.get(indices[next++ & MASK]))), target, cardinality, "get");
+            }
+            Bench.consume(list);
+        }
+    }
+}
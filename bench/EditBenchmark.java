@@ -0,0 +1,74 @@
+import java.util.Random;
+
+/***
+ * Class to compare ArrayList and GapArrayList on inserts and deletes clustered around a moving cursor
+ * Usage: java -cp out EditBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class EditBenchmark {
+
+    /***
+     * Interface for the two operations being compared, since List declares neither
+     */
+    interface Editor {
+        void add(int index, String value);
+        void remove(int index);
+        int size();
+    }
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String sizeArg = args.length > 0 ? args[0] : "10000,1000000";
+        Bench.header("list", "size", "op");
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(size);
+
+            ArrayList<String> ar = new ArrayList<>();
+            ar.addAll(rows, 0, rows.length);
+            Bench.row(Bench.measure(new CursorOp(new Editor() {
+                public void add(int index, String value) { ar.add(index, value); }
+                public void remove(int index) { ar.remove(index); }
+                public int size() { return ar.size(); }
+            }, rows[0])), "ArrayList", size, "cursor edit");
+
+            GapArrayList<String> gap = new GapArrayList<>();
+            for (String row : rows)
+                gap.add(row);
+            Bench.row(Bench.measure(new CursorOp(new Editor() {
+                public void add(int index, String value) { gap.add(index, value); }
+                public void remove(int index) { gap.remove(index); }
+                public int size() { return gap.size(); }
+            }, rows[0])), "GapArrayList", size, "cursor edit");
+        }
+    }
+
+    /***
+     * Inner class for one edit: an insert or a delete within a few positions of a cursor that drifts slowly
+     */
+    static class CursorOp implements Runnable {
+        private final Editor editor;
+        private final String value;
+        private final Random random = new Random(7);
+        private int cursor;
+        CursorOp(Editor editor, String value) {
+            this.editor = editor;
+            this.value = value;
+            cursor = editor.size() / 2;
+        }
+        public void run() {
+            int n = editor.size();
+            cursor = Math.min(Math.max(cursor + random.nextInt(3) - 1, 8), n - 8);
+            int index = cursor + random.nextInt(16) - 8;
+            if (random.nextBoolean())
+                editor.add(index, value);
+            else
+                editor.remove(index);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+import java.util.ListIterator;
+import java.util.function.Supplier;
+
+/***
+ * Class to compare the heap each List implementation keeps per element, and how fast it is traversed
+ * The rows are shared by every list, so the bytes reported are the list's own structure only
+ * Usage: java -Xmx4g -cp out FootprintBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class FootprintBenchmark {
+
+    /***
+     * Inner class pairing a name with a factory for an empty list
+     */
+    static class Target {
+        final String name;
+        final Supplier<List<String>> factory;
+        Target(String name, Supplier<List<String>> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+    }
+
+    static final Target[] TARGETS = {
+        new Target("ArrayList", ArrayList::new),
+        new Target("LinkedList", LinkedList::new),
+        new Target("DoublyLinkedList", DoublyLinkedList::new),
+        new Target("ArrayDoublyLinkedList", ArrayDoublyLinkedList::new),
+        new Target("UnrolledLinkedList", UnrolledLinkedList::new),
+    };
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String[] names = new String[TARGETS.length];
+        for (int i = 0; i < TARGETS.length; i++)
+            names[i] = TARGETS[i].name;
+        if (Bench.fork(FootprintBenchmark.class, args, names))
+            return;
+        String sizeArg = args.length > 0 ? args[0] : "1000000,10000000";
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(size);
+            for (Target target : TARGETS) {
+                if (!Bench.selected(target.name))
+                    continue;
+                long before = Bench.usedHeap();
+                List<String> list = target.factory.get();
+                for (String row : rows)
+                    list.add(row);
+                long bytes = Bench.usedHeap() - before;
+                System.out.printf("# %s keeps %.1f MB for %d elements, %.1f B/element%n",
+                        target.name, bytes / 1048576.0, size, (double) bytes / size);
+                Bench.row(Bench.measure(new Traverse(list)), target.name, size, "full traversal");
+            }
+        }
+    }
+
+    /***
+     * Inner class for one op: a complete forward pass over the list with listIterator()
+     */
+    static class Traverse implements Runnable {
+        private final List<String> list;
+        Traverse(List<String> list) {
+            this.list = list;
+        }
+        public void run() {
+            ListIterator<String> it = list.listIterator();
+            while (it.hasNext())
+                Bench.consume(it.next());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/***
+ * Class to compare ArrayList lookups by value with and without the hash index
+ * Lookups use rows picked at random, so half of the time the match sits in the first half of the list
+ * Usage: java -Xmx4g -cp out HashIndexBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class HashIndexBenchmark {
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String sizeArg = args.length > 0 ? args[0] : "226,1000000,10000000";
+        if (Bench.fork(HashIndexBenchmark.class, args, "linear", "hash index"))
+            return;
+        String target = System.getProperty("bench.target");
+        Bench.header("ArrayList", "size", "op");
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(size);
+            ArrayList<String> list = new ArrayList<>(size);
+            for (String row : rows)
+                list.add(row);
+            long indexBytes = 0;
+            if (target.equals("hash index")) {
+                long before = Bench.usedHeap();
+                list.enableHashIndex();
+                list.indexOf(rows[0]);
+                indexBytes = Bench.usedHeap() - before;
+            }
+            int[] indices = Bench.randomIndices(size);
+            int[] i = {0};
+            Bench.row(Bench.measure(() -> Bench.consume(list.indexOf(rows[indices[i[0]++ & 0xFFFF]]))), target, size, "indexOf");
+            Bench.row(Bench.measure(() -> Bench.consume(list.contains("missing"))), target, size, "contains missing");
+            Bench.row(Bench.measure(() -> {
+                String row = rows[indices[i[0]++ & 0xFFFF]];
+                list.remove(row);
+                list.add(row);
+            }), target, size, "remove(Object)+add");
+            if (target.equals("hash index"))
+                System.out.printf("# %,d rows: index %,d bytes reported, %,d bytes retained, %.1f B/element%n",
+                        size, list.hashIndexBytes(), indexBytes, (double) list.hashIndexBytes() / size);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+import java.util.ListIterator;
+
+/***
+ * Class to compare the fail-fast listIterator() of each list with its uncheckedListIterator()
+ * Each list and mode runs in its own JVM, so the loop is compiled for one iterator class only
+ * Usage: java -Xmx4g -cp out IteratorBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class IteratorBenchmark {
+    private static final String[] TARGETS = { "ArrayList checked", "ArrayList unchecked", "LinkedList checked",
+            "LinkedList unchecked", "DoublyLinkedList checked", "DoublyLinkedList unchecked" };
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String sizeArg = args.length > 0 ? args[0] : "10000,1000000";
+        if (Bench.fork(IteratorBenchmark.class, args, TARGETS))
+            return;
+        String target = System.getProperty("bench.target");
+        boolean unchecked = target.endsWith("unchecked");
+        Bench.header("list", "size", "op");
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(size);
+            if (target.startsWith("ArrayList")) {
+                ArrayList<String> list = new ArrayList<>(size);
+                for (String row : rows)
+                    list.add(row);
+                Bench.row(Bench.measure(() -> forward(unchecked ? list.uncheckedListIterator() : list.listIterator())),
+                        target, size, "forward");
+                Bench.row(Bench.measure(() -> backward(unchecked ? list.uncheckedListIterator(size) : list.listIterator(size))),
+                        target, size, "backward");
+            }
+            else if (target.startsWith("LinkedList")) {
+                LinkedList<String> list = new LinkedList<>();
+                for (String row : rows)
+                    list.add(row);
+                Bench.row(Bench.measure(() -> forward(unchecked ? list.uncheckedListIterator() : list.listIterator())),
+                        target, size, "forward");
+                Bench.row(Bench.measure(() -> backward(unchecked ? list.uncheckedListIterator(size) : list.listIterator(size))),
+                        target, size, "backward");
+            }
+            else {
+                DoublyLinkedList<String> list = new DoublyLinkedList<>();
+                for (String row : rows)
+                    list.add(row);
+                Bench.row(Bench.measure(() -> forward(unchecked ? list.uncheckedListIterator() : list.listIterator())),
+                        target, size, "forward");
+                Bench.row(Bench.measure(() -> backward(unchecked ? list.uncheckedListIterator(size) : list.listIterator(size))),
+                        target, size, "backward");
+            }
+        }
+    }
+
+    /***
+     * Method to walk an iterator to the end
+     * @param it - iterator being walked
+     */
+    private static void forward(ListIterator<String> it) {
+        while (it.hasNext())
+            Bench.consume(it.next());
+    }
+
+    /***
+     * Method to walk an iterator back to the start
+     * @param it - iterator being walked
+     */
+    private static void backward(ListIterator<String> it) {
+        while (it.hasPrevious())
+            Bench.consume(it.previous());
+    }
+}
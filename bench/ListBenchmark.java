@@ -0,0 +1,188 @@
+import java.util.ListIterator;
+import java.util.function.Supplier;
+
+/***
+ * Class to compare ArrayList, LinkedList and DoublyLinkedList on the operations Test relies on
+ * Each target runs in its own JVM through Bench.fork, so no target's call sites are shaped by another's classes
+ * Usage: java -Xmx4g -cp out ListBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ListBenchmark {
+
+    /***
+     * Interface for a positional read, since List does not declare get(int)
+     */
+    interface Get { Object get(List<String> list, int index); }
+    /***
+     * Interface for a positional write, since List does not declare set(int, E)
+     */
+    interface Set { Object set(List<String> list, int index, String value); }
+    /***
+     * Interface for a positional remove, since List does not declare remove(int)
+     */
+    interface Remove { Object remove(List<String> list, int index); }
+
+    /***
+     * Inner class describing one List implementation and the optional operations it supports
+     */
+    static class Target {
+        final String name;
+        final Supplier<List<String>> factory;
+        final Get get;
+        final Set set;
+        final Remove remove;
+        /***
+         * Constructor with all arguments, null operations are reported as not supported
+         */
+        Target(String name, Supplier<List<String>> factory, Get get, Set set, Remove remove) {
+            this.name = name;
+            this.factory = factory;
+            this.get = get;
+            this.set = set;
+            this.remove = remove;
+        }
+    }
+
+    static final Target[] TARGETS = {
+        new Target("ArrayList", ArrayList::new,
+                (l, i) -> ((ArrayList<String>) l).get(i),
+                (l, i, v) -> ((ArrayList<String>) l).set(i, v),
+                (l, i) -> ((ArrayList<String>) l).remove(i)),
+        new Target("LinkedList", LinkedList::new, null, null, null),
+        new Target("DoublyLinkedList", DoublyLinkedList::new,
+                (l, i) -> ((DoublyLinkedList<String>) l).get(i),
+                (l, i, v) -> ((DoublyLinkedList<String>) l).set(i, v),
+                (l, i) -> ((DoublyLinkedList<String>) l).remove(i)),
+        new Target("UnrolledLinkedList", UnrolledLinkedList::new,
+                (l, i) -> ((UnrolledLinkedList<String>) l).get(i),
+                (l, i, v) -> ((UnrolledLinkedList<String>) l).set(i, v),
+                (l, i) -> ((UnrolledLinkedList<String>) l).remove(i)),
+    };
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        if (System.getProperty("bench.target") == null) {
+            System.out.println("# warmup " + Bench.WARMUP_MILLIS + " ms, measure " + Bench.MEASURE_MILLIS
+                    + " ms, " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+            Bench.header("list", "size", "op");
+        }
+        String[] names = new String[TARGETS.length];
+        for (int i = 0; i < TARGETS.length; i++)
+            names[i] = TARGETS[i].name;
+        if (Bench.fork(ListBenchmark.class, args, names))
+            return;
+        String sizeArg = args.length > 0 ? args[0] : "226,10000,1000000,10000000";
+        String[] parts = sizeArg.split(",");
+        for (String part : parts) {
+            int size = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(size);
+            for (Target target : TARGETS) {
+                if (Bench.selected(target.name))
+                    run(target, rows);
+            }
+        }
+    }
+
+    /***
+     * Method to run every operation of one target at one size
+     * @param target - List implementation being measured
+     * @param rows - rows the list is filled with
+     */
+    static void run(Target target, String[] rows) {
+        int n = rows.length;
+        report(target, n, "add", new AddOp(target.factory, rows));
+
+        List<String> list = target.factory.get();
+        for (String row : rows)
+            list.add(row);
+        int[] indices = Bench.randomIndices(n);
+        if (target.get != null) {
+            report(target, n, "get", () -> Bench.consume(target.get.get(list, indices[next++ & MASK])));
+            report(target, n, "get sequential", () -> {
+                if (++next >= list.size())
+                    next = 0;
+                Bench.consume(target.get.get(list, next));
+            });
+        }
+        if (target.set != null)
+            report(target, n, "set", () -> Bench.consume(target.set.set(list, indices[next++ & MASK], rows[0])));
+        if (target.remove != null)
+            report(target, n, "remove(int)+add", () -> {
+                Bench.consume(target.remove.remove(list, indices[next++ & MASK] % list.size()));
+                list.add(rows[0]);
+            });
+        report(target, n, "iterate forward", new ForwardOp(list));
+        report(target, n, "iterate backward", new BackwardOp(list));
+    }
+
+    private static final int MASK = (1 << 16) - 1;
+    private static int next;
+
+    /***
+     * Method to measure and print one operation
+     */
+    static void report(Target target, int size, String op, Runnable runnable) {
+        Bench.row(Bench.measure(runnable), target.name, size, op);
+    }
+
+    /***
+     * Inner class for appending: builds a list up to the row count, then starts again with an empty list
+     */
+    static class AddOp implements Runnable {
+        private final Supplier<List<String>> factory;
+        private final String[] rows;
+        private List<String> list;
+        private int i;
+        AddOp(Supplier<List<String>> factory, String[] rows) {
+            this.factory = factory;
+            this.rows = rows;
+            list = factory.get();
+        }
+        public void run() {
+            if (i == rows.length) {
+                list = factory.get();
+                i = 0;
+            }
+            list.add(rows[i++]);
+        }
+    }
+
+    /***
+     * Inner class for one next() call of listIterator(), restarting at the end of the list
+     */
+    static class ForwardOp implements Runnable {
+        private final List<String> list;
+        private ListIterator<String> it;
+        ForwardOp(List<String> list) {
+            this.list = list;
+            it = list.listIterator();
+        }
+        public void run() {
+            if (!it.hasNext())
+                it = list.listIterator();
+            Bench.consume(it.next());
+        }
+    }
+
+    /***
+     * Inner class for one previous() call of listIterator(size()), restarting at the front of the list
+     */
+    static class BackwardOp implements Runnable {
+        private final List<String> list;
+        private ListIterator<String> it;
+        BackwardOp(List<String> list) {
+            this.list = list;
+            it = list.listIterator(list.size());
+        }
+        public void run() {
+            if (!it.hasPrevious())
+                it = list.listIterator(list.size());
+            Bench.consume(it.previous());
+        }
+    }
+}
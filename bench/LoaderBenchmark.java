@@ -0,0 +1,97 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/***
+ * Class to compare the Scanner based Test.readFromFile with the loaders added next to it
+ * Every load reads the whole file into a fresh ArrayList, files other than countries.txt are generated in a temp directory
+ * Usage: java -Xmx4g -cp out LoaderBenchmark [lines,lines,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class LoaderBenchmark {
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of line counts, 226 means countries.txt itself
+     */
+    public static void main(String[] args) throws IOException {
+        String sizeArg = args.length > 0 ? args[0] : "226,1000000,10000000";
+        Bench.header("loader", "lines", "MB");
+        for (String part : sizeArg.split(",")) {
+            int lines = Integer.parseInt(part.trim());
+            File file = lines == 226 ? new File("countries.txt") : writeFile(lines);
+            String name = file.getPath();
+            String mb = String.format("%.1f", file.length() / (1024.0 * 1024.0));
+            Bench.row(Bench.measure(() -> {
+                ArrayList<String> list = new ArrayList<>();
+                Test.readFromFile(list, name);
+                Bench.consume(list);
+            }), "Scanner", lines, mb);
+            Bench.row(Bench.measure(() -> {
+                ArrayList<String> list = new ArrayList<>(lines);
+                try {
+                    MappedLineReader.readFromFile(list, name);
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                Bench.consume(list);
+            }), "MappedLineReader", lines, mb);
+            Bench.row(Bench.measure(() -> {
+                try {
+                    Bench.consume(new OffsetStringList(name));
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }), "OffsetStringList", lines, mb);
+            retained(name, lines);
+            if (lines != 226)
+                file.delete();
+        }
+    }
+
+    /***
+     * Method to print the heap kept alive by a loaded ArrayList and by an OffsetStringList of the same file
+     * @param name - file being loaded
+     * @param lines - number of lines in the file
+     */
+    static void retained(String name, int lines) throws IOException {
+        long before = Bench.usedHeap();
+        ArrayList<String> list = new ArrayList<>(lines);
+        MappedLineReader.readFromFile(list, name);
+        long arrayList = Bench.usedHeap() - before;
+        Bench.consume(list);
+        list = null;
+        before = Bench.usedHeap();
+        OffsetStringList offsets = new OffsetStringList(name);
+        long offsetList = Bench.usedHeap() - before;
+        Bench.consume(offsets);
+        System.out.printf("# retained heap for %d lines: ArrayList %.1f MB (%.1f B/line), OffsetStringList %.1f MB (%.1f B/line)%n",
+                lines, arrayList / 1048576.0, (double) arrayList / lines, offsetList / 1048576.0, (double) offsetList / lines);
+    }
+
+    /***
+     * Method to write a file with the given number of lines in the format of countries.txt
+     * @param lines - number of lines
+     * @return - the file written
+     */
+    static File writeFile(int lines) throws IOException {
+        File file = File.createTempFile("countries", ".txt");
+        file.deleteOnExit();
+        String[] rows = Bench.rows(lines);
+        try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < rows.length; i++) {
+                if (i > 0)
+                    out.write("\r\n");
+                out.write(rows[i]);
+            }
+        }
+        return file;
+    }
+}
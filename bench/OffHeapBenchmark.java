@@ -0,0 +1,76 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/***
+ * Class to compare GC cost and resident memory of on-heap lists with OffHeapStringList under the same load
+ * Each list is filled with the same rows, then a stream of short lived garbage is allocated while the list stays
+ * alive, and finally a few full collections are timed, since their cost grows with the number of live objects
+ * Usage: java -Xmx4g -cp out OffHeapBenchmark [size]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class OffHeapBenchmark {
+
+    /***
+     * Main method
+     * @param args - optional number of rows
+     */
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+        if (Bench.fork(OffHeapBenchmark.class, args, "ArrayList", "LinkedList", "OffHeapStringList"))
+            return;
+        String target = System.getProperty("bench.target");
+        String[] rows = Bench.rows(size);
+        List<String> list = target.equals("ArrayList") ? new ArrayList<>()
+                : target.equals("LinkedList") ? new LinkedList<>() : new OffHeapStringList();
+        long gcBefore = Bench.gcMillis();
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++)
+            // a fresh String per row, as a loader would make, so the on-heap lists own their rows
+            list.add(new String(rows[i]));
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+        long loadGc = Bench.gcMillis() - gcBefore;
+        rows = null;
+
+        long churnGc = Bench.gcMillis();
+        long churnCount = Bench.gcCount();
+        // a small ring keeps each array reachable for a moment so the allocation cannot be optimized away
+        Object[] ring = new Object[1024];
+        for (int i = 0; i < 50_000_000; i++)
+            ring[i & 1023] = new byte[64 + (i & 63)];
+        Bench.consume(ring);
+        churnGc = Bench.gcMillis() - churnGc;
+        churnCount = Bench.gcCount() - churnCount;
+
+        long fullStart = System.nanoTime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        long fullMillis = (System.nanoTime() - fullStart) / 1_000_000 / 3;
+
+        Runtime rt = Runtime.getRuntime();
+        System.out.printf("%-18s %,d rows: load %d ms (gc %d ms), churn %d gcs %d ms, full gc %d ms, heap used %.0f MB, rss %s%n",
+                target, size, loadMillis, loadGc, churnCount, churnGc, fullMillis,
+                (rt.totalMemory() - rt.freeMemory()) / 1048576.0, rss());
+        Bench.consume(list.size());
+        if (list instanceof OffHeapStringList)
+            ((OffHeapStringList) list).close();
+    }
+
+    /***
+     * Method to read the resident set size of this process
+     * @return - VmRSS line of /proc/self/status, or "n/a" where it does not exist
+     */
+    static String rss() {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc/self/status")))
+                if (line.startsWith("VmRSS:"))
+                    return line.substring(6).trim();
+        }
+        catch (IOException e) {
+            // not Linux
+        }
+        return "n/a";
+    }
+}
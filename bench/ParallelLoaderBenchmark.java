@@ -0,0 +1,50 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/***
+ * Class to report how ParallelLineReader scales with the number of workers
+ * Usage: java -Xmx4g -cp out ParallelLoaderBenchmark [lines] [threads,threads,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ParallelLoaderBenchmark {
+
+    /***
+     * Main method
+     * @param args - optional line count and comma separated list of thread counts
+     */
+    public static void main(String[] args) throws IOException {
+        int lines = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        String threadArg = args.length > 1 ? args[1] : "1,2,4,8,16";
+        File file = LoaderBenchmark.writeFile(lines);
+        String name = file.getPath();
+        System.out.println("# " + Runtime.getRuntime().availableProcessors() + " processors available");
+        Bench.header("loader", "lines", "threads");
+        Bench.row(Bench.measure(() -> {
+            ArrayList<String> list = new ArrayList<>(lines);
+            try {
+                MappedLineReader.readFromFile(list, name);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Bench.consume(list);
+        }), "MappedLineReader", lines, 1);
+        for (String part : threadArg.split(",")) {
+            int threads = Integer.parseInt(part.trim());
+            Bench.row(Bench.measure(() -> {
+                ArrayList<String> list = new ArrayList<>();
+                try {
+                    ParallelLineReader.readFromFile(list, name, threads);
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                Bench.consume(list);
+            }), "ParallelLineReader", lines, threads);
+        }
+        file.delete();
+    }
+}
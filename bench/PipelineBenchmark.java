@@ -0,0 +1,133 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+
+/***
+ * Class to compare reading a whole file before printing it with printing it batch by batch through LinePipeline
+ * Each run prints the file as "[a b c ]" to a Writer that throws the chars away, and reports the time until the
+ * first char was written, the time until the last one was, and the peak heap of the old generation, where
+ * everything that is kept ends up. Files are generated in a temp directory.
+ * Usage: java -Xmx4g -cp out PipelineBenchmark [lines,lines,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class PipelineBenchmark {
+    private static final String[] TARGETS = { "Scanner then print", "pipeline into list", "pipeline print only" };
+    // Runs per size, the median is reported
+    private static final int RUNS = 5;
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of line counts
+     */
+    public static void main(String[] args) throws IOException {
+        String sizeArg = args.length > 0 ? args[0] : "100000,1000000,10000000";
+        if (Bench.fork(PipelineBenchmark.class, args, TARGETS))
+            return;
+        String target = System.getProperty("bench.target");
+        System.out.printf("%-24s%-12s%16s%16s%18s%n", "target", "lines", "first out ms", "total ms", "old gen peak MB");
+        for (String part : sizeArg.split(",")) {
+            int lines = Integer.parseInt(part.trim());
+            File file = LoaderBenchmark.writeFile(lines);
+            double[] first = new double[RUNS];
+            double[] total = new double[RUNS];
+            double[] peak = new double[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                Bench.usedHeap();
+                resetPeaks();
+                TimingWriter out = new TimingWriter();
+                run(target, file.getPath(), out);
+                first[run] = (out.first - out.start) / 1e6;
+                total[run] = (System.nanoTime() - out.start) / 1e6;
+                peak[run] = oldGenPeak() / 1048576.0;
+            }
+            System.out.printf("%-24s%-12d%16.1f%16.1f%18.1f%n", target, lines, median(first), median(total), median(peak));
+            file.delete();
+        }
+    }
+
+    /***
+     * Method to print a file once the way a target does
+     * @param target - name of the target
+     * @param name - file being printed
+     * @param out - Writer being printed to
+     * @throws IOException if the file cannot be read
+     */
+    private static void run(String target, String name, Writer out) throws IOException {
+        if (target.equals("Scanner then print")) {
+            ArrayList<String> list = new ArrayList<>();
+            Test.readFromFile(list, name);
+            ListWriter.writeForward(list, out);
+            Bench.consume(list);
+        }
+        else if (target.equals("pipeline into list")) {
+            ArrayList<String> list = new ArrayList<>();
+            out.write('[');
+            LinePipeline.readFromFile(list, name, (batch, firstLine) -> ListWriter.writeElements(batch, out));
+            out.write(']');
+            Bench.consume(list);
+        }
+        else {
+            out.write('[');
+            LinePipeline.forEachBatch(name, line -> line, LinePipeline.BATCH, LinePipeline.DEPTH,
+                    (batch, firstLine) -> ListWriter.writeElements(batch, out));
+            out.write(']');
+        }
+    }
+
+    /***
+     * Method to reset the peak usage of every heap pool
+     */
+    private static void resetPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP)
+                pool.resetPeakUsage();
+    }
+
+    /***
+     * Method to return the peak usage of the old generation since the last reset
+     * @return - bytes
+     */
+    private static long oldGenPeak() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP && (pool.getName().contains("Old") || pool.getName().contains("Tenured")))
+                peak += pool.getPeakUsage().getUsed();
+        return peak;
+    }
+
+    /***
+     * Method to return the median of some values
+     * @param values - values, reordered
+     * @return - median
+     */
+    private static double median(double[] values) {
+        Arrays.sort(values);
+        return values[values.length / 2];
+    }
+
+    /***
+     * Inner class for a Writer that drops what it is given and remembers when the first block of elements came
+     * Single chars, the brackets written around the batches, do not count as output
+     */
+    static class TimingWriter extends Writer {
+        final long start = System.nanoTime();
+        long first;
+        public void write(char[] chars, int off, int len) {
+            if (first == 0)
+                first = System.nanoTime();
+            Bench.consume(chars[off]);
+        }
+        public void write(int c) {
+        }
+        public void flush() {
+        }
+        public void close() {
+        }
+    }
+}
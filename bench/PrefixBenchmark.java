@@ -0,0 +1,53 @@
+import java.util.ListIterator;
+
+/***
+ * Class to compare answering "names starting with a prefix" with a linear scan of the List and with PrefixIndex
+ * The prefixes are the first two characters of rows picked at random
+ * Usage: java -Xmx4g -cp out PrefixBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class PrefixBenchmark {
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String sizeArg = args.length > 0 ? args[0] : "226,100000,1000000";
+        Bench.header("lookup", "size", "op");
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            ArrayList<String> list = new ArrayList<>(size);
+            for (String row : Bench.rows(size))
+                list.add(row);
+            int[] indices = Bench.randomIndices(size);
+            String[] prefixes = new String[indices.length];
+            for (int i = 0; i < prefixes.length; i++) {
+                String row = list.get(indices[i]);
+                prefixes[i] = row.substring(0, Math.min(2, row.length()));
+            }
+            int[] i = {0};
+            Bench.row(Bench.measure(() -> {
+                String prefix = prefixes[i[0]++ & 0xFFFF];
+                IntArrayList matches = new IntArrayList();
+                ListIterator<String> it = list.listIterator();
+                int position = 0;
+                while (it.hasNext()) {
+                    if (it.next().startsWith(prefix))
+                        matches.add(position);
+                    position++;
+                }
+                Bench.consume(matches);
+            }), "linear scan", size, "prefix");
+            long before = Bench.usedHeap();
+            PrefixIndex index = new PrefixIndex(list);
+            long retained = Bench.usedHeap() - before;
+            Bench.row(Bench.measure(() -> Bench.consume(index.prefix(prefixes[i[0]++ & 0xFFFF]))), "PrefixIndex", size, "prefix");
+            Bench.row(Bench.measure(() -> Bench.consume(index.countPrefix(prefixes[i[0]++ & 0xFFFF]))), "PrefixIndex", size, "count prefix");
+            Bench.row(Bench.measure(() -> Bench.consume(index.exact(list.get(indices[i[0]++ & 0xFFFF])))), "PrefixIndex", size, "exact");
+            System.out.printf("# PrefixIndex footprint %,d bytes reported, %,d bytes retained%n", index.footprintBytes(), retained);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
+
+/***
+ * Class to compare ArrayList of boxed Integer and Long values with IntArrayList and LongArrayList
+ * Reports the heap kept for the values and the speed of summing them through an iterator
+ * Usage: java -Xmx4g -cp out PrimitiveBenchmark [size]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class PrimitiveBenchmark {
+
+    /***
+     * Main method
+     * @param args - optional number of values
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        if (Bench.fork(PrimitiveBenchmark.class, args, "ArrayList<Integer>", "IntArrayList", "ArrayList<Long>", "LongArrayList"))
+            return;
+        // population-like values, well outside the Integer cache
+        java.util.Random random = new java.util.Random(1);
+
+        if (Bench.selected("ArrayList<Integer>")) {
+            long before = Bench.usedHeap();
+            ArrayList<Integer> boxed = new ArrayList<>(size);
+            for (int i = 0; i < size; i++)
+                boxed.add(1000 + random.nextInt(1_000_000_000));
+            footprint("ArrayList<Integer>", Bench.usedHeap() - before, size);
+            Bench.row(Bench.measure(() -> {
+                long sum = 0;
+                ListIterator<Integer> it = boxed.listIterator();
+                while (it.hasNext())
+                    sum += it.next();
+                Bench.consume(sum);
+            }), "ArrayList<Integer>", size, "sum");
+        }
+        if (Bench.selected("IntArrayList")) {
+            long before = Bench.usedHeap();
+            IntArrayList ints = new IntArrayList(size);
+            for (int i = 0; i < size; i++)
+                ints.add(1000 + random.nextInt(1_000_000_000));
+            footprint("IntArrayList", Bench.usedHeap() - before, size);
+            Bench.row(Bench.measure(() -> {
+                long sum = 0;
+                PrimitiveIterator.OfInt it = ints.iterator();
+                while (it.hasNext())
+                    sum += it.nextInt();
+                Bench.consume(sum);
+            }), "IntArrayList", size, "sum");
+        }
+        if (Bench.selected("ArrayList<Long>")) {
+            long before = Bench.usedHeap();
+            ArrayList<Long> boxed = new ArrayList<>(size);
+            for (int i = 0; i < size; i++)
+                boxed.add(random.nextLong());
+            footprint("ArrayList<Long>", Bench.usedHeap() - before, size);
+            Bench.row(Bench.measure(() -> {
+                long sum = 0;
+                ListIterator<Long> it = boxed.listIterator();
+                while (it.hasNext())
+                    sum += it.next();
+                Bench.consume(sum);
+            }), "ArrayList<Long>", size, "sum");
+        }
+        if (Bench.selected("LongArrayList")) {
+            long before = Bench.usedHeap();
+            LongArrayList longs = new LongArrayList(size);
+            for (int i = 0; i < size; i++)
+                longs.add(random.nextLong());
+            footprint("LongArrayList", Bench.usedHeap() - before, size);
+            Bench.row(Bench.measure(() -> {
+                long sum = 0;
+                PrimitiveIterator.OfLong it = longs.iterator();
+                while (it.hasNext())
+                    sum += it.nextLong();
+                Bench.consume(sum);
+            }), "LongArrayList", size, "sum");
+        }
+    }
+
+    /***
+     * Method to print the heap kept by a list of values
+     */
+    static void footprint(String name, long bytes, int size) {
+        System.out.printf("# %s keeps %.1f MB for %d values, %.1f B/value%n", name, bytes / 1048576.0, size, (double) bytes / size);
+    }
+}
@@ -0,0 +1,53 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ListIterator;
+
+/***
+ * Class to compare printing a list one System.out.print per element with writing it in blocks through ListWriter
+ * Output goes to a stream that discards it, so only the printing path is measured
+ * Usage: java -cp out PrintBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class PrintBenchmark {
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String sizeArg = args.length > 0 ? args[0] : "226,100000";
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        Bench.header("path", "size", "op");
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            DoublyLinkedList<String> list = new DoublyLinkedList<>();
+            for (String row : Bench.rows(size))
+                list.add(row);
+            Bench.row(Bench.measure(() -> {
+                ListIterator<String> li = list.listIterator();
+                discard.print("[");
+                while (li.hasNext())
+                    discard.print(li.next() + " ");
+                discard.println("]");
+            }), "print per element", size, "forward");
+            Bench.row(Bench.measure(() -> {
+                Writer out = new OutputStreamWriter(discard);
+                try {
+                    ListWriter.writeForward(list, out);
+                    out.write(System.lineSeparator());
+                    out.flush();
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }), "ListWriter", size, "forward");
+            Bench.row(Bench.measure(() -> Bench.consume(list.toString())), "toString", size, "forward");
+        }
+    }
+}
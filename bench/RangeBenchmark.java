@@ -0,0 +1,112 @@
+/***
+ * Class to compare the bulk range operations with doing the same work one element at a time
+ * ArrayList: cutting a tenth of the list out of the middle with remove(int) in a loop or one removeRange, the
+ * cut elements are appended back after each op so the size stays the same.
+ * Linked lists: merging two halves by copying them into a new list, or by moving the nodes with concat.
+ * Usage: java -Xmx4g -cp out RangeBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class RangeBenchmark {
+    private static final String[] TARGETS = { "ArrayList remove loop", "ArrayList removeRange", "LinkedList copy",
+            "LinkedList concat", "DoublyLinkedList copy", "DoublyLinkedList concat" };
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String sizeArg = args.length > 0 ? args[0] : "10000,100000";
+        if (Bench.fork(RangeBenchmark.class, args, TARGETS))
+            return;
+        String target = System.getProperty("bench.target");
+        Bench.header("list", "size", "op");
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(size);
+            Runnable op;
+            String name;
+            if (target.startsWith("ArrayList")) {
+                ArrayList<String> list = new ArrayList<>(size);
+                for (String row : rows)
+                    list.add(row);
+                int from = size * 9 / 20;
+                int count = size / 10;
+                ArrayList<String> cut = new ArrayList<>(count);
+                for (int i = 0; i < count; i++)
+                    cut.add(rows[i]);
+                name = "cut " + count;
+                if (target.endsWith("remove loop")) {
+                    op = () -> {
+                        for (int i = 0; i < count; i++)
+                            list.remove(from);
+                        list.addAll(cut);
+                    };
+                }
+                else {
+                    op = () -> {
+                        list.removeRange(from, from + count);
+                        list.addAll(cut);
+                    };
+                }
+            }
+            else if (target.startsWith("LinkedList")) {
+                java.util.List<LinkedList<String>> halves = new java.util.ArrayList<>(java.util.List.of(new LinkedList<>(), new LinkedList<>()));
+                fill(halves, rows);
+                name = "merge";
+                if (target.endsWith("copy")) {
+                    op = () -> {
+                        LinkedList<String> merged = new LinkedList<>();
+                        for (LinkedList<String> half : halves) {
+                            java.util.ListIterator<String> it = half.listIterator();
+                            while (it.hasNext())
+                                merged.add(it.next());
+                        }
+                        Bench.consume(merged);
+                    };
+                }
+                else {
+                    // the nodes move back and forth between the two lists, each op is one merge
+                    op = () -> {
+                        halves.get(0).concat(halves.get(1));
+                        java.util.Collections.swap(halves, 0, 1);
+                    };
+                }
+            }
+            else {
+                java.util.List<DoublyLinkedList<String>> halves = new java.util.ArrayList<>(java.util.List.of(new DoublyLinkedList<>(), new DoublyLinkedList<>()));
+                fill(halves, rows);
+                name = "merge";
+                if (target.endsWith("copy")) {
+                    op = () -> {
+                        DoublyLinkedList<String> merged = new DoublyLinkedList<>();
+                        for (DoublyLinkedList<String> half : halves) {
+                            java.util.ListIterator<String> it = half.listIterator();
+                            while (it.hasNext())
+                                merged.add(it.next());
+                        }
+                        Bench.consume(merged);
+                    };
+                }
+                else {
+                    op = () -> {
+                        halves.get(0).concat(halves.get(1));
+                        java.util.Collections.swap(halves, 0, 1);
+                    };
+                }
+            }
+            Bench.row(Bench.measure(op), target, size, name);
+        }
+    }
+
+    /***
+     * Method to fill two lists with the first and second half of the rows
+     * @param halves - the two lists
+     * @param rows - rows being split
+     */
+    private static void fill(java.util.List<? extends List<String>> halves, String[] rows) {
+        for (int i = 0; i < rows.length; i++)
+            halves.get(i < rows.length / 2 ? 0 : 1).add(rows[i]);
+    }
+}
@@ -0,0 +1,71 @@
+import java.util.ListIterator;
+
+/***
+ * Class to compare a copy-on-write ArrayList, which copies the whole array on every write, with PersistentList
+ * Both hand readers an unchanging list they can iterate without a lock; the cost is paid by the writer
+ * Usage: java -Xmx4g -cp out SnapshotBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class SnapshotBenchmark {
+    // Latest copy of the copy-on-write ArrayList, a field so the measured ops can replace it
+    private static ArrayList<String> current;
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String sizeArg = args.length > 0 ? args[0] : "226,100000,1000000";
+        if (Bench.fork(SnapshotBenchmark.class, args, "copy-on-write ArrayList", "PersistentList"))
+            return;
+        String target = System.getProperty("bench.target");
+        Bench.header("list", "size", "op");
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(size);
+            int[] indices = Bench.randomIndices(size);
+            if (Bench.selected("copy-on-write ArrayList")) {
+                current = new ArrayList<>(size);
+                for (String row : rows)
+                    current.add(row);
+                Bench.row(Bench.measure(() -> iterate(current)), target, size, "iterate");
+                int[] i = {0};
+                Bench.row(Bench.measure(() -> {
+                    ArrayList<String> copy = new ArrayList<>(size);
+                    copy.addAll(current);
+                    int index = indices[i[0]++ & 0xFFFF];
+                    copy.set(index, rows[index]);
+                    current = copy;
+                }), target, size, "set");
+                Bench.row(Bench.measure(() -> Bench.consume(current)), target, size, "snapshot");
+                Bench.row(Bench.measure(() -> iterate(current)), target, size, "iterate after sets");
+            }
+            if (Bench.selected("PersistentList")) {
+                PersistentList<String> list = new PersistentList<>();
+                for (String row : rows)
+                    list.add(row);
+                Bench.row(Bench.measure(() -> iterate(list)), target, size, "iterate");
+                int[] i = {0};
+                Bench.row(Bench.measure(() -> {
+                    int index = indices[i[0]++ & 0xFFFF];
+                    list.set(index, rows[index]);
+                }), target, size, "set");
+                Bench.row(Bench.measure(() -> Bench.consume(list.snapshot())), target, size, "snapshot");
+                PersistentList<String> snapshot = list.snapshot();
+                Bench.row(Bench.measure(() -> iterate(snapshot)), target, size, "iterate after sets");
+            }
+        }
+    }
+
+    /***
+     * Method to walk a list from the first element to the last
+     * @param list - list being walked
+     */
+    private static void iterate(List<String> list) {
+        ListIterator<String> it = list.listIterator();
+        while (it.hasNext())
+            Bench.consume(it.next());
+    }
+}
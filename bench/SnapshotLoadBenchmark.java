@@ -0,0 +1,113 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/***
+ * Class to compare a cold start that parses the text file with one that loads a ListSnapshot
+ * Every load runs in a new JVM, so class loading and the interpreter are part of the time, as they are at startup.
+ * The files are written first and read once by the parent, so the page cache is warm for every target.
+ * Each row reports the load time, the JVM uptime when the list was ready and the heap the list keeps.
+ * "unique" files are Bench.rows, "repeated" files cycle the countries of countries.txt, where the dictionary pays off.
+ * Usage: java -Xmx4g -cp out SnapshotLoadBenchmark [lines,lines,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class SnapshotLoadBenchmark {
+    private static final String[] TARGETS = { "Scanner", "MappedLineReader", "ListSnapshot", "ListSnapshot dict",
+            "SnapshotStringList" };
+    private static final String FORMAT = "%-20s%-10s%-12s%10s%12s%12s%14s%n";
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of line counts, the forked runs get the files instead
+     */
+    public static void main(String[] args) throws IOException {
+        if (System.getProperty("bench.target") != null) {
+            load(System.getProperty("bench.target"), args);
+            return;
+        }
+        String sizeArg = args.length > 0 ? args[0] : "226,1000000,10000000";
+        System.out.printf(FORMAT, "target", "data", "lines", "file MB", "load ms", "ready ms", "retained MB");
+        for (String part : sizeArg.split(",")) {
+            int lines = Integer.parseInt(part.trim());
+            for (String kind : lines == 226 ? new String[] { "countries" } : new String[] { "unique", "repeated" }) {
+                File text = lines == 226 ? new File("countries.txt")
+                        : kind.equals("unique") ? LoaderBenchmark.writeFile(lines) : repeatedFile(lines);
+                ArrayList<String> list = new ArrayList<>(lines);
+                MappedLineReader.readFromFile(list, text.getPath());
+                File plain = File.createTempFile("countries", ".snapshot");
+                File dictionary = File.createTempFile("countries", ".snapshot");
+                plain.deleteOnExit();
+                dictionary.deleteOnExit();
+                ListSnapshot.write(list, plain.getPath(), false);
+                ListSnapshot.write(list, dictionary.getPath(), true);
+                list = null;
+                Bench.fork(SnapshotLoadBenchmark.class, new String[] { text.getPath(), plain.getPath(),
+                        dictionary.getPath(), kind }, TARGETS);
+                if (lines != 226)
+                    text.delete();
+                plain.delete();
+                dictionary.delete();
+            }
+        }
+    }
+
+    /***
+     * Method to load one file the way a target does and print its row, run once in a new JVM
+     * @param target - name of the target
+     * @param files - text file, snapshot, snapshot with a dictionary and the kind of data
+     * @throws IOException if the file cannot be read
+     */
+    private static void load(String target, String[] files) throws IOException {
+        String name = target.equals("Scanner") || target.equals("MappedLineReader") ? files[0]
+                : target.equals("ListSnapshot dict") ? files[2] : files[1];
+        long before = Bench.usedHeap();
+        long start = System.nanoTime();
+        List<String> list;
+        if (target.equals("Scanner")) {
+            list = new ArrayList<>();
+            Test.readFromFile(list, name);
+        }
+        else if (target.equals("MappedLineReader")) {
+            list = new ArrayList<>();
+            MappedLineReader.readFromFile(list, name);
+        }
+        else if (target.equals("SnapshotStringList"))
+            list = new SnapshotStringList(name);
+        else {
+            list = new ArrayList<>();
+            ListSnapshot.readFromFile(list, name);
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        long ready = ManagementFactory.getRuntimeMXBean().getUptime();
+        double retained = (Bench.usedHeap() - before) / 1048576.0;
+        Bench.consume(list);
+        System.out.printf(FORMAT, target, files[3], list.size(), String.format("%.1f", new File(name).length() / 1048576.0),
+                String.format("%.1f", millis), ready, String.format("%.1f", retained));
+    }
+
+    /***
+     * Method to write a file that cycles the countries of countries.txt
+     * @param lines - number of lines
+     * @return - temp file
+     * @throws IOException if the file cannot be written
+     */
+    private static File repeatedFile(int lines) throws IOException {
+        ArrayList<String> countries = new ArrayList<>();
+        Test.readFromFile(countries, "countries.txt");
+        File file = File.createTempFile("countries", ".txt");
+        file.deleteOnExit();
+        try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i++) {
+                if (i > 0)
+                    out.write("\r\n");
+                out.write(countries.get(i % countries.size()));
+            }
+        }
+        return file;
+    }
+}
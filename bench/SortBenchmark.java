@@ -0,0 +1,74 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
+/***
+ * Class to compare sorting each list in place with copying an ArrayList out to an array, sorting it with
+ * Arrays.parallelSort and copying it back
+ * Every op sorts by a key derived from a new seed, so no op starts from already sorted input
+ * Usage: java -Xmx4g -cp out SortBenchmark [size,size,...]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class SortBenchmark {
+    private static final String[] TARGETS = { "ArrayList.sort", "Arrays.parallelSort", "LinkedList.sort", "DoublyLinkedList.sort" };
+    private static int seed;
+
+    /***
+     * Main method
+     * @param args - optional comma separated list of sizes
+     */
+    public static void main(String[] args) {
+        String sizeArg = args.length > 0 ? args[0] : "100000,1000000";
+        if (Bench.fork(SortBenchmark.class, args, TARGETS))
+            return;
+        String target = System.getProperty("bench.target");
+        System.out.println("# " + target + ", common pool parallelism " + java.util.concurrent.ForkJoinPool.getCommonPoolParallelism());
+        Bench.header("sort", "size", "op");
+        for (String part : sizeArg.split(",")) {
+            int size = Integer.parseInt(part.trim());
+            String[] rows = Bench.rows(size);
+            Runnable op;
+            if (target.equals("ArrayList.sort") || target.equals("Arrays.parallelSort")) {
+                ArrayList<String> list = new ArrayList<>(size);
+                for (String row : rows)
+                    list.add(row);
+                if (target.equals("ArrayList.sort")) {
+                    op = () -> list.sort(nextOrder());
+                }
+                else {
+                    op = () -> {
+                        String[] extracted = new String[list.size()];
+                        for (int i = 0; i < extracted.length; i++)
+                            extracted[i] = list.get(i);
+                        Arrays.parallelSort(extracted, nextOrder());
+                        for (int i = 0; i < extracted.length; i++)
+                            list.set(i, extracted[i]);
+                    };
+                }
+            }
+            else if (target.equals("LinkedList.sort")) {
+                LinkedList<String> list = new LinkedList<>();
+                for (String row : rows)
+                    list.add(row);
+                op = () -> list.sort(nextOrder());
+            }
+            else {
+                DoublyLinkedList<String> list = new DoublyLinkedList<>();
+                for (String row : rows)
+                    list.add(row);
+                op = () -> list.sort(nextOrder());
+            }
+            Bench.row(Bench.measure(op), target, size, "sort");
+        }
+    }
+
+    /***
+     * Method to return an ordering unrelated to the last one, by mixing each String's hash with a new seed
+     * @return - Comparator
+     */
+    private static Comparator<String> nextOrder() {
+        int s = ++seed * 0x9E3779B9;
+        return (x, y) -> Integer.compare((x.hashCode() ^ s) * 0x85EBCA6B, (y.hashCode() ^ s) * 0x85EBCA6B);
+    }
+}
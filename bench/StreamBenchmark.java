@@ -0,0 +1,39 @@
+/***
+ * Class to compare a filter/map/sum job over each list as a sequential and as a parallel Stream
+ * UnrolledLinkedList has no Spliterator of its own, so it shows the default one from List
+ * Usage: java -Xmx4g -cp out StreamBenchmark [size]
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class StreamBenchmark {
+    private static final String[] TARGETS = { "ArrayList", "LinkedList", "DoublyLinkedList", "UnrolledLinkedList" };
+
+    /***
+     * Main method
+     * @param args - optional number of rows
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        if (Bench.fork(StreamBenchmark.class, args, TARGETS))
+            return;
+        String target = System.getProperty("bench.target");
+        List<String> list;
+        if (target.equals("ArrayList"))
+            list = new ArrayList<>(size);
+        else if (target.equals("LinkedList"))
+            list = new LinkedList<>();
+        else if (target.equals("DoublyLinkedList"))
+            list = new DoublyLinkedList<>();
+        else
+            list = new UnrolledLinkedList<>();
+        for (String row : Bench.rows(size))
+            list.add(row);
+        System.out.println("# " + Runtime.getRuntime().availableProcessors() + " processors available");
+        Bench.header("list", "size", "op");
+        Bench.row(Bench.measure(() -> Bench.consume(list.stream()
+                .filter(s -> s.indexOf('a') >= 0).mapToInt(String::length).sum())), target, size, "stream");
+        Bench.row(Bench.measure(() -> Bench.consume(list.parallelStream()
+                .filter(s -> s.indexOf('a') >= 0).mapToInt(String::length).sum())), target, size, "parallelStream");
+    }
+}
@@ -0,0 +1,559 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/***
+ * Class to model a Doubly Linked List whose nodes are slots of three parallel arrays
+ * Slot s holds values[s], and next[s] and prev[s] are the slots of its neighbours (NIL at either end), so the
+ * List keeps no object per element: about 12 bytes of structure per slot against 32 for a DoublyLinkedList node.
+ * Slots freed by removes go on a free list threaded through next[] and are handed out again before the arrays grow.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ArrayDoublyLinkedList<E> implements List<E> {
+    // Link value for no slot
+    private static final int NIL = -1;
+    // data members
+    private E[] values;
+    private int[] next;
+    private int[] prev;
+    private int head, tail;
+    private int size;
+    // First slot of the free list, and the number of slots ever handed out; every slot from used on is free too
+    private int free;
+    private int used;
+    // Number of changes to the size or order, iterators compare it with the count they saw to fail fast
+    private int modCount;
+
+    /***
+     * Constructor with no arguments
+     * Makes an empty list with room for 10 elements
+     */
+    public ArrayDoublyLinkedList() { //O(1)
+        this(10);
+    }
+
+    /***
+     * Constructor with one argument, the capacity of the list
+     * @param capacity - number of elements the list holds before its arrays grow
+     */
+    public ArrayDoublyLinkedList(int capacity) { //O(1)
+        values = (E[]) new Object[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        head = tail = free = NIL;
+    }
+
+    /***
+     * Method to add an item at the head of the List
+     * @param item - item being added
+     * @return - true if added
+     */
+    public boolean addFirst(E item) { //O(1) amortized
+        int s = allocate(item);
+        prev[s] = NIL;
+        next[s] = head;
+        if (head == NIL)
+            tail = s;
+        else
+            prev[head] = s;
+        head = s;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Method to add an item at the end of the List
+     * @param item - item being added
+     * @return - true if added
+     */
+    public boolean addLast(E item) { //O(1) amortized
+        int s = allocate(item);
+        next[s] = NIL;
+        prev[s] = tail;
+        if (tail == NIL)
+            head = s;
+        else
+            next[tail] = s;
+        tail = s;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Method to add an item to the list
+     * @param item - item being added
+     * @return - true if added
+     * Adds the item at the end using addLast()
+     */
+    public boolean add(E item) { //O(1) amortized
+        return addLast(item);
+    }
+
+    /***
+     * Method to add an item at the given index
+     * @param index - index being added at
+     * @param item - item being added
+     * @return - true if added successfully
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public boolean add(int index, E item) { //O(1) near either end, O(n) worst case
+        checkPosition(index);
+        if (index == size)
+            return addLast(item);
+        return linkBefore(slot(index), item);
+    }
+
+    /***
+     * Method to put an item in a new slot in front of another slot
+     * @param s - slot the new one goes before
+     * @param item - item being added
+     * @return - true if added successfully
+     */
+    private boolean linkBefore(int s, E item) { //O(1) amortized
+        if (s == head)
+            return addFirst(item);
+        int n = allocate(item);
+        int before = prev[s];
+        prev[n] = before;
+        next[n] = s;
+        next[before] = n;
+        prev[s] = n;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Method to return the first item of the list
+     * @return - head of the List
+     * @throws NoSuchElementException - if the List is empty
+     */
+    public E getFirst() { //O(1)
+        if (head == NIL)
+            throw new NoSuchElementException();
+        return values[head];
+    }
+
+    /***
+     * Method to return the last item of the list
+     * @return - tail of the List
+     * @throws NoSuchElementException - if the List is empty
+     */
+    public E getLast() { //O(1)
+        if (head == NIL)
+            throw new NoSuchElementException();
+        return values[tail];
+    }
+
+    /***
+     * Method to remove the first item of the List
+     * @return - true if removed successfully
+     * @throws NoSuchElementException - if the List is empty
+     */
+    public boolean removeFirst() { //O(1)
+        if (head == NIL)
+            throw new NoSuchElementException();
+        unlink(head);
+        return true;
+    }
+
+    /***
+     * Method to remove the last item of the List
+     * @return - true if removed successfully
+     * @throws NoSuchElementException - if the List is empty
+     */
+    public boolean removeLast() { //O(1)
+        if (head == NIL)
+            throw new NoSuchElementException();
+        unlink(tail);
+        return true;
+    }
+
+    /***
+     * Method to return the object at the given index
+     * @param index - index that the value is being returned from
+     * @return - object at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E get(int index) { //O(1) near either end, O(n) worst case
+        checkIndex(index);
+        return values[slot(index)];
+    }
+
+    /***
+     * Method to set the value of the object at the given index
+     * @param index - index being set
+     * @param item - value being set
+     * @return - previous value of the object at the index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E set(int index, E item) { //O(1) near either end, O(n) worst case
+        checkIndex(index);
+        int s = slot(index);
+        E oldItem = values[s];
+        values[s] = item;
+        return oldItem;
+    }
+
+    /***
+     * Method to remove the object at a specific index
+     * @param index - index the object is removed from
+     * @return - the item at the index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E remove(int index) { //O(1) near either end, O(n) worst case
+        checkIndex(index);
+        int s = slot(index);
+        E item = values[s];
+        unlink(s);
+        return item;
+    }
+
+    /***
+     * Method to take a slot out of the chain and put it on the free list
+     * @param s - slot being removed
+     */
+    private void unlink(int s) { //O(1)
+        int before = prev[s];
+        int after = next[s];
+        if (before == NIL)
+            head = after;
+        else
+            next[before] = after;
+        if (after == NIL)
+            tail = before;
+        else
+            prev[after] = before;
+        values[s] = null;
+        next[s] = free;
+        free = s;
+        size--;
+        modCount++;
+    }
+
+    /***
+     * Method to hand out a slot for an item, from the free list first, growing the arrays when every slot is used
+     * @param item - value of the slot
+     * @return - slot, its links still have to be set
+     */
+    private int allocate(E item) { //O(1) amortized
+        int s = free;
+        if (s != NIL) {
+            free = next[s];
+        }
+        else {
+            if (used == values.length)
+                grow();
+            s = used++;
+        }
+        values[s] = item;
+        return s;
+    }
+
+    /***
+     * Method to grow the three arrays by 1.5x
+     */
+    private void grow() { //O(n)
+        int capacity = Math.max((int) (values.length * 1.5), values.length + 1);
+        values = Arrays.copyOf(values, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+
+    /***
+     * Method to return the slot at the given index, walking from whichever end is closer
+     * @param index - index of the slot, between 0 and size - 1
+     * @return - slot at index
+     */
+    private int slot(int index) { //O(min(index, size - index))
+        int s;
+        if (index < size >> 1) {
+            s = head;
+            for (int i = 0; i < index; i++)
+                s = next[s];
+        }
+        else {
+            s = tail;
+            for (int i = size - 1; i > index; i--)
+                s = prev[s];
+        }
+        return s;
+    }
+
+    /***
+     * Method to rewrite the slots in list order and trim the arrays to the size
+     * After churn the chain jumps around the arrays; once compacted slot i holds element i, so a traversal
+     * reads each array front to back
+     */
+    public void compact() { //O(n)
+        E[] newValues = (E[]) new Object[size];
+        int[] newNext = new int[size];
+        int[] newPrev = new int[size];
+        int i = 0;
+        for (int s = head; s != NIL; s = next[s], i++) {
+            newValues[i] = values[s];
+            newNext[i] = i + 1;
+            newPrev[i] = i - 1;
+        }
+        if (size > 0)
+            newNext[size - 1] = NIL;
+        values = newValues;
+        next = newNext;
+        prev = newPrev;
+        head = size > 0 ? 0 : NIL;
+        tail = size - 1;
+        free = NIL;
+        used = size;
+        modCount++;
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the List
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to check if a cursor position is valid
+     * @param index - position being checked
+     * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size
+     */
+    private void checkPosition(int index){ //O(1)
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+    }
+
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        return ListWriter.toString(this);
+    }
+
+    /***
+     * Method to make the List empty, keeping the capacity
+     * Clears the values so the list keeps nothing reachable, the links are overwritten when slots are reused
+     */
+    public void clear() { //O(slots used)
+        Arrays.fill(values, 0, used, null);
+        head = tail = free = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /***
+     * Method to check if the List is empty
+     * @return - if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+
+    /***
+     * Method to return the size of the list
+     * @return - size of the List
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to check if the List holds an object
+     * @param o - object being looked for, may be null
+     * @return - true if an element equals o
+     */
+    public boolean contains(Object o) { //O(n)
+        return indexOf(o) >= 0;
+    }
+
+    /***
+     * Method to return the index of the first element equal to an object
+     * @param o - object being looked for, may be null
+     * @return - index, or -1 if no element equals o
+     */
+    public int indexOf(Object o) { //O(n)
+        int index = 0;
+        for (int s = head; s != NIL; s = next[s], index++)
+            if (Objects.equals(values[s], o))
+                return index;
+        return -1;
+    }
+
+    /***
+     * Method to return an ArrayDoublyLinkedListIterator whose first next() returns the element after the specified index
+     * @param index - index of the element before the one the first call to next() returns, -1 to start at the head
+     * @return - Iterator object
+     * @throws ArrayIndexOutOfBoundsException if the index is less than -1 or greater than or equal to the size
+     */
+    public Iterator<E> iterator(int index){ //O(1) near either end, O(n) worst case
+        return listIterator(index + 1);
+    }
+
+    /***
+     * Inner class for an ArrayDoublyLinkedListIterator
+     * The cursor sits between slots: next() returns the value of the slot after it, previous() the one before it.
+     * Fail-fast: any change to the List not made through this iterator makes its next call throw
+     * ConcurrentModificationException.
+     */
+    private class ArrayDoublyLinkedListIterator implements ListIterator<E>{
+        // slot next() returns, NIL at the end
+        private int nextSlot;
+        // slot returned by the last next() or previous(), NIL after add() or remove()
+        private int lastReturned = NIL;
+        private int cursor;
+        private int expectedModCount = modCount;
+        /***
+         * Constructor with one argument
+         * @param index - index of the element returned by the first call to next(), between 0 and size
+         */
+        ArrayDoublyLinkedListIterator(int index){ //O(1) near either end, O(n) worst case
+            nextSlot = index == size ? NIL : slot(index);
+            cursor = index;
+        }
+        /***
+         * Method to check if there is an element after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < size;
+        }
+        /***
+         * Method to return the next element of the Iterator
+         * @return - next element of type E in the list
+         * @throws NoSuchElementException if there is no next element
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public E next() { //O(1)
+            checkForComodification();
+            if (nextSlot == NIL)
+                throw new NoSuchElementException();
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            cursor++;
+            return values[lastReturned];
+        }
+        /***
+         * Method to check if there is an element before the cursor
+         * @return - true if the cursor is after the head
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous element of the Iterator
+         * @return - previous element of type E in the List
+         * @throws NoSuchElementException if there is no previous element
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public E previous() { //O(1)
+            checkForComodification();
+            if (cursor <= 0)
+                throw new NoSuchElementException();
+            nextSlot = nextSlot == NIL ? tail : prev[nextSlot];
+            lastReturned = nextSlot;
+            cursor--;
+            return values[lastReturned];
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index, the size at the end
+         */
+        public int nextIndex(){ //O(1)
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index, -1 at the head
+         */
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method to replace the value last returned by next() or previous()
+         * @param value - new value
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void set(E value){ //O(1)
+            if (lastReturned == NIL)
+                throw new IllegalStateException();
+            checkForComodification();
+            values[lastReturned] = value;
+        }
+        /***
+         * Method to insert a value at the cursor, before the element next() would return
+         * @param value - value being added
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void add(E value){ //O(1) amortized
+            checkForComodification();
+            if (nextSlot == NIL)
+                addLast(value);
+            else
+                linkBefore(nextSlot, value);
+            cursor++;
+            lastReturned = NIL;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to remove the slot last returned by next() or previous()
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void remove(){ //O(1)
+            if (lastReturned == NIL)
+                throw new IllegalStateException();
+            checkForComodification();
+            if (nextSlot == lastReturned) {
+                // returned by previous(), the cursor stays where it is
+                nextSlot = next[lastReturned];
+            }
+            else {
+                cursor--;
+            }
+            unlink(lastReturned);
+            lastReturned = NIL;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to check that the List was only changed through this iterator
+         * @throws ConcurrentModificationException if it was not
+         */
+        private void checkForComodification(){ //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the 0th index of the List
+     * @return - ListIterator
+     */
+    public ListIterator<E> listIterator(){ //O(1)
+        return new ArrayDoublyLinkedListIterator(0);
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the specified index of the List
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> listIterator(int index){ //O(1) near either end, O(n) worst case
+        checkPosition(index);
+        return new ArrayDoublyLinkedListIterator(index);
+    }
+}
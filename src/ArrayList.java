@@ -1,16 +1,29 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /***
  * Class to model an ArrayList that implements List
  * @author Marco Clark
  * Date Created: 3/31/2022
- * Date Last Modified: 4/16/2022
+ * Date Last Modified: 10/18/2026
  */
 public class ArrayList<E> implements List<E> {
     // data members
     private E[] elements;
     private int size;
+    // Number of changes to the size or order, iterators compare it with the count they saw to fail fast
+    private int modCount;
+    // Optional index from elements to positions, null unless enableHashIndex() was called
+    private HashIndex hash;
     // Constructors
 
     /***
@@ -49,17 +62,90 @@ public class ArrayList<E> implements List<E> {
         if(index > size || index < 0)
             throw new ArrayIndexOutOfBoundsException();
         ensureCapacity(); //O(n)
-        if (size == 0){
-            elements[0] = item;
-        }else{
-            for(int i=size-1; i>index; i--){ //O(n)
-                elements[i+1] = elements[i];
-            }
-            elements[index] = item;
-        }
+        System.arraycopy(elements, index, elements, index + 1, size - index); //O(n)
+        elements[index] = item;
         size++;
+        modCount++;
+        if (hash != null) {
+            if (index < size - 1)
+                hash.shift(index, 1); //O(n)
+            hash.add(elements, index);
+        }
         return true;
     }
+    // Bulk loading (4 methods)
+
+    /***
+     * Method to add every item of a Collection to the end of the ArrayList
+     * Grows the backing array at most once and copies the items in one block
+     * @param items - items being added, in the Collection's iteration order
+     * @return - true if any item was added
+     */
+    public boolean addAll(Collection<? extends E> items) { //O(n)
+        Object[] a = items.toArray();
+        ensureCapacity(size + a.length); //O(n)
+        System.arraycopy(a, 0, elements, size, a.length);
+        size += a.length;
+        modCount++;
+        indexAppended(a.length);
+        return a.length != 0;
+    }
+    /***
+     * Method to add a range of an array to the end of the ArrayList
+     * Grows the backing array at most once and copies the items in one block
+     * @param items - array holding the items
+     * @param off - index of the first item in the array
+     * @param len - number of items being added
+     * @return - true if any item was added
+     * @throws ArrayIndexOutOfBoundsException if off and len do not describe a range of items
+     */
+    public boolean addAll(E[] items, int off, int len) { //O(n)
+        if (off < 0 || len < 0 || off > items.length - len)
+            throw new ArrayIndexOutOfBoundsException("Range out of bounds. Must be within 0 and "+items.length);
+        ensureCapacity(size + len); //O(n)
+        System.arraycopy(items, off, elements, size, len);
+        size += len;
+        modCount++;
+        indexAppended(len);
+        return len != 0;
+    }
+    /***
+     * Method to add every item of another ArrayList to the end of this one
+     * Grows the backing array at most once and copies the items in one block
+     * @param items - ArrayList holding the items, in index order
+     * @return - true if any item was added
+     */
+    public boolean addAll(ArrayList<? extends E> items) { //O(n)
+        int count = items.size;
+        ensureCapacity(size + count); //O(n)
+        System.arraycopy(items.elements, 0, elements, size, count);
+        size += count;
+        modCount++;
+        indexAppended(count);
+        return count != 0;
+    }
+    /***
+     * Method to add the last count elements to the hash index, if there is one
+     * @param count - number of elements just added to the end
+     */
+    private void indexAppended(int count) { //O(count)
+        if (hash != null)
+            for (int i = size - count; i < size; i++)
+                hash.add(elements, i);
+    }
+    /***
+     * Method to make an ArrayList holding every item of a Stream
+     * When sizeHint is at least the number of items the backing array is allocated exactly once
+     * @param <E> - Data type of the items
+     * @param items - Stream of items, read in encounter order
+     * @param sizeHint - expected number of items
+     * @return - new ArrayList
+     */
+    public static <E> ArrayList<E> from(Stream<E> items, int sizeHint) { //O(n)
+        ArrayList<E> list = new ArrayList<>(Math.max(sizeHint, 0));
+        items.forEachOrdered(list::add);
+        return list;
+    }
     // Getter and Setter
 
     /***
@@ -80,7 +166,11 @@ public class ArrayList<E> implements List<E> {
     public E set(int index, E item) {
         checkIndex(index); //O(1)
         E oldItem = elements[index];
+        if (hash != null)
+            hash.remove(elements, index);
         elements[index] = item;
+        if (hash != null)
+            hash.add(elements, index);
         return oldItem;
     }
 
@@ -98,6 +188,9 @@ public class ArrayList<E> implements List<E> {
      */
     public void clear() { //O(1)
         size = 0; 
+        modCount++;
+        if (hash != null)
+            hash.clear();
     } 
     
     /***
@@ -110,17 +203,64 @@ public class ArrayList<E> implements List<E> {
 
     /***
      * Method to remove an object from the ArrayList
+     * With the hash index on, finding the object is O(1) expected and only the shift of later elements is O(n)
      * @param o - object being removed
      * @return - boolena representation of whether the list contains the object and was successfully removed
      */
     public boolean remove(Object o) { //O(n)
-        E item = (E) o;
-        for(int i=0; i<size; i++)
-            if(elements[i].equals(item)){
-                remove(i); //O(n)
-                return true;
-            }
-        return false;
+        int i = indexOf(o);
+        if (i < 0)
+            return false;
+        remove(i); //O(n), O(1) for the last element
+        return true;
+    }
+
+    /***
+     * Method to check if the ArrayList holds an object
+     * @param o - object being looked for, may be null
+     * @return - true if an element equals o
+     */
+    public boolean contains(Object o) { //O(n), O(1) expected with the hash index on
+        return indexOf(o) >= 0;
+    }
+
+    /***
+     * Method to return the index of the first element equal to an object
+     * @param o - object being looked for, may be null
+     * @return - index, or -1 if no element equals o
+     */
+    public int indexOf(Object o) { //O(n), O(1) expected with the hash index on
+        if (hash != null)
+            return hash.indexOf(elements, size, o);
+        for (int i = 0; i < size; i++)
+            if (Objects.equals(elements[i], o))
+                return i;
+        return -1;
+    }
+
+    /***
+     * Method to turn on the hash index used by contains, indexOf and remove(Object)
+     * The index is built by the next lookup and then kept up to date by every change to the ArrayList.
+     * It holds one int per slot of a table kept under 3/4 full, between 5.3 and 10.7 bytes per element.
+     */
+    public void enableHashIndex() { //O(1)
+        if (hash == null)
+            hash = new HashIndex();
+    }
+
+    /***
+     * Method to turn off the hash index and release its memory
+     */
+    public void disableHashIndex() { //O(1)
+        hash = null;
+    }
+
+    /***
+     * Method to return the heap held by the hash index
+     * @return - bytes used by the index, zero when it is off
+     */
+    public long hashIndexBytes() { //O(1)
+        return hash == null ? 0 : hash.footprintBytes();
     }
     
     /***
@@ -131,21 +271,60 @@ public class ArrayList<E> implements List<E> {
     public E remove(int index) { //O(n)
         checkIndex(index);
         E item = elements[index];
-        for(int i=index; i<size-1; i++)
-            elements[i] = elements[i+1];
-        size--;
+        if (hash != null)
+            hash.remove(elements, index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        if (hash != null && index < size)
+            hash.shift(index + 1, -1); //O(n)
         return item;
     }
     
+    /***
+     * Method to remove the elements from one index up to another
+     * Moves the elements after the range down with one arraycopy, however long the range is
+     * @param from - index of the first element removed
+     * @param to - index after the last element removed
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    public void removeRange(int from, int to) { //O(n - from)
+        checkRange(from, to);
+        int count = to - from;
+        if (count == 0)
+            return;
+        if (hash != null)
+            for (int i = from; i < to; i++)
+                hash.remove(elements, i);
+        System.arraycopy(elements, to, elements, from, size - to);
+        Arrays.fill(elements, size - count, size, null);
+        size -= count;
+        modCount++;
+        if (hash != null && from < size)
+            hash.shift(to, -count); //O(n)
+    }
+
+    /***
+     * Method to sort the ArrayList in place, keeping equal elements in their order
+     * Large lists are sorted on the common fork/join pool with one workspace array as long as the list,
+     * small ones with Arrays.sort on the calling thread
+     * @param c - Comparator, null to sort Comparable elements in their natural order
+     */
+    public void sort(Comparator<? super E> c) { //O(n log n)
+        ParallelMergeSort.sort(elements, 0, size, c);
+        modCount++;
+        if (hash != null)
+            hash.invalidate();
+    }
+
     /***
      * Method to trim the size of the ArrayList if the size does not equal the length of the elements ArrayList
      */
     public void trimToSize() { //O(n)
         if (size != elements.length) {
             E[] newElements = (E[]) new Object[size];
-        for(int i=0; i<size; i++)
-            newElements[i] = elements[i];
-        elements = newElements;
+            System.arraycopy(elements, 0, newElements, 0, size);
+            elements = newElements;
         }
     }
     
@@ -153,11 +332,19 @@ public class ArrayList<E> implements List<E> {
      * Method to grow the size of the ArrayList if the number of elements exceeds the size of the ArrayList
      */
     private void ensureCapacity() { //O(N)
-        if(size >= elements.length) {
-            int newCap = (int) (elements.length * 1.5);
+        ensureCapacity(size + 1);
+    }
+
+    /***
+     * Method to grow the backing array so it can hold at least the given number of elements
+     * Grows by 1.5x, or straight to minCapacity when that is larger, so a bulk add allocates once
+     * @param minCapacity - number of elements the ArrayList must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) { //O(N)
+        if(minCapacity > elements.length) {
+            int newCap = Math.max((int) (elements.length * 1.5), minCapacity);
             E[] newElements = (E[]) new Object[newCap];
-            for(int i=0; i<size; i++)
-                newElements[i] = elements[i];
+            System.arraycopy(elements, 0, newElements, 0, size);
             elements = newElements;
         }
     }
@@ -172,103 +359,235 @@ public class ArrayList<E> implements List<E> {
             throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
     }
     
+    /***
+     * Method to check if a range of indices is valid
+     * @param from - first index of the range
+     * @param to - index after the last one of the range
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    private void checkRange(int from, int to){ //O(1)
+        if(from < 0 || to > size || from > to)
+            throw new ArrayIndexOutOfBoundsException("Range out of bounds. Must be within 0 and "+size);
+    }
+    
     /***
      * Method to return the String reppresentation of the ArrayList
      * @return - String of the ArrayList
      */
     public String toString() { //O(n)
-        String output = "[";
-        for(int i=0; i<size-1; i++)
-            output += elements[i] + " ";
-        output += elements[size-1] + "]";
-        return output;
+        return ListWriter.toString(this, false);
     }
     
     /***
      * Method to return an Iterator object of type ArrayListIterator
-     * @param - index that the Iterator begins at
+     * @param - index of the element before the one the first call to next() returns, -1 to start at the beginning
+     * @return - Iterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than -1 or greater than or equal to the size
      */
     public Iterator<E> iterator(int index){
-        return new ArrayListIterator(index);
+        return listIterator(index + 1);
     }
     
     /***
      * Inner class for an Iterator of type ArrayListIterator
+     * The cursor sits between elements: next() returns the element at the cursor, previous() the one before it.
+     * Fail-fast: any change to the ArrayList not made through this iterator makes its next call throw
+     * ConcurrentModificationException.
      */
     private class ArrayListIterator implements ListIterator<E>{
-        private int current = -1;
-        private int previous = -2;
+        private int cursor;
+        // index of the element returned by the last next() or previous(), -1 after add() or remove()
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
         /***
          * Constructor with one parameter
-         * @param index - index the iterator is to start iterating at when first used
+         * @param index - index of the element returned by the first call to next()
          */
         public ArrayListIterator(int index){
-            current = index;
-            previous = index - 1;
+            cursor = index;
         }
         /***
-         * Method to determine if the current element of the iterator has a non-null succsessive element
-         * @return - true if the current index is not the last element
+         * Method to determine if there is an element after the cursor
+         * @return - true if the cursor is before the end
          */
-        public boolean hasNext() { 
-            return current < size-1; 
+        public boolean hasNext() { //O(1)
+            return cursor < size;
         }
         /***
          * Method to return the next element
          * @return - the next element of type E in the ArrayList
+         * @throws NoSuchElementException if there is no next element
+         * @throws ConcurrentModificationException if the ArrayList was changed by something else
          */
-        public E next() { 
-            current++;
-            previous++;
-            return elements[current]; 
+        public E next() { //O(1)
+            checkForComodification();
+            int i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            cursor = i + 1;
+            return elements[lastReturned = i];
         }
         /***
-         * Method to determine if there is a non-null element prior to the current element
-         * @return - true if the current element is not the first element
+         * Method to determine if there is an element before the cursor
+         * @return - true if the cursor is after the first element
          */
-        public boolean hasPrevious() {
-            return !(current == 1);
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
         }
         /***
          * Method to return the previous element
-         * @return - the pprevious element of type E in the ArrayList
+         * @return - the previous element of type E in the ArrayList
+         * @throws NoSuchElementException if there is no previous element
+         * @throws ConcurrentModificationException if the ArrayList was changed by something else
          */
-        public E previous() {
-            previous--;
-            current --;
-            return elements[previous];
+        public E previous() { //O(1)
+            checkForComodification();
+            int i = cursor - 1;
+            if (i < 0)
+                throw new NoSuchElementException();
+            cursor = i;
+            return elements[lastReturned = i];
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method to return the index of the element next() would return
+         * @return - index, the size at the end
          */
-        public int nextIndex(){
-            throw new UnsupportedOperationException();
+        public int nextIndex(){ //O(1)
+            return cursor;
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method to return the index of the element previous() would return
+         * @return - index, -1 at the beginning
          */
-        public int previousIndex(){
-            throw new UnsupportedOperationException();
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method to replace the element last returned by next() or previous()
+         * @param value - new value
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the ArrayList was changed by something else
+         */
+        public void set(E value){ //O(1)
+            if (lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            ArrayList.this.set(lastReturned, value);
+        }
+        /***
+         * Method to insert an element at the cursor, before the element next() would return
+         * @param value - value being added
+         * @throws ConcurrentModificationException if the ArrayList was changed by something else
+         */
+        public void add(E value){ //O(n)
+            checkForComodification();
+            ArrayList.this.add(cursor++, value);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to remove the element last returned by next() or previous()
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the ArrayList was changed by something else
+         */
+        public void remove(){ //O(n)
+            if (lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to check that the ArrayList was only changed through this iterator
+         * @throws ConcurrentModificationException if it was not
+         */
+        private void checkForComodification(){ //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /***
+     * Inner class for a read-only ListIterator with no checks
+     * It keeps the backing array and the size from when it was made and never looks at the ArrayList again, so
+     * next() and previous() are a single array read that the JIT can keep free of any check inside a counted loop.
+     * Nothing is checked: changing the ArrayList during the loop, or calling next() when hasNext() is false,
+     * gives unspecified results instead of an exception.
+     */
+    private class UncheckedArrayListIterator implements ListIterator<E>{
+        private final E[] a;
+        private final int end;
+        private int cursor;
+        /***
+         * Constructor with one parameter
+         * @param index - index of the element returned by the first call to next()
+         */
+        UncheckedArrayListIterator(int index){
+            a = elements;
+            end = size;
+            cursor = index;
+        }
+        /***
+         * Method to determine if there is an element after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < end;
+        }
+        /***
+         * Method to return the next element, hasNext() must be true
+         * @return - the next element of type E in the ArrayList
+         */
+        public E next() { //O(1)
+            return a[cursor++];
+        }
+        /***
+         * Method to determine if there is an element before the cursor
+         * @return - true if the cursor is after the first element
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous element, hasPrevious() must be true
+         * @return - the previous element of type E in the ArrayList
+         */
+        public E previous() { //O(1)
+            return a[--cursor];
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index
+         */
+        public int nextIndex(){ //O(1)
+            return cursor;
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method to return the index of the element previous() would return
+         * @return - index
+         */
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void set(E value){
             throw new UnsupportedOperationException();
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void add(E value){
             throw new UnsupportedOperationException();
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void remove(){
             throw new UnsupportedOperationException();
@@ -279,18 +598,444 @@ public class ArrayList<E> implements List<E> {
      * Method that returns a ListIterator that begins at the 0th index of the ArrayList
      * @return - ListIterator
      */
-    public ListIterator<E> listIterator(){
-        return (ListIterator<E>) iterator(-1);
+    public ListIterator<E> listIterator(){ //O(1)
+        return new ArrayListIterator(0);
     }
 
     /***
      * Method that returns a ListIterator that begins at the specified index of the ArrayList
-     * @param - index that the Iterator starts at
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> listIterator(int index){ //O(1)
+        checkPosition(index);
+        return new ArrayListIterator(index);
+    }
+
+    /***
+     * Method that returns a read-only ListIterator with no modification, bounds or state checks, for hot loops
+     * that are known not to run while the ArrayList changes
+     * @return - ListIterator beginning at the 0th index
+     */
+    public ListIterator<E> uncheckedListIterator(){ //O(1)
+        return new UncheckedArrayListIterator(0);
+    }
+
+    /***
+     * Method that returns a read-only ListIterator with no modification, bounds or state checks, for hot loops
+     * that are known not to run while the ArrayList changes
+     * @param - index of the element returned by the first call to next(), size() to start at the end
      * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> uncheckedListIterator(int index){ //O(1)
+        checkPosition(index);
+        return new UncheckedArrayListIterator(index);
+    }
+
+    /***
+     * Method to check if a cursor position is valid
+     * @param index - position being checked
+     * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size
+     */
+    private void checkPosition(int index){ //O(1)
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+    }
+
+    /***
+     * Method to return a Spliterator over the elements in order
+     * Splits its index range in half, so every part knows its exact size
+     * @return - Spliterator
+     */
+    public Spliterator<E> spliterator() { //O(1)
+        return new ArrayListSpliterator(0, size);
+    }
+
+    /***
+     * Method to return a view of the elements from one index up to another
+     * The view copies nothing: it reads and writes this ArrayList's array, and changes made through the view
+     * show in the ArrayList. Any change to the ArrayList not made through the view makes the view throw
+     * ConcurrentModificationException.
+     * @param from - index of the first element in the view
+     * @param to - index after the last element in the view
+     * @return - SubList backed by this ArrayList
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    public SubList subList(int from, int to) { //O(1)
+        checkRange(from, to);
+        return new SubList(null, from, to - from);
+    }
+
+    /***
+     * Inner class for a view of a range of the ArrayList
+     * Indices are relative to the start of the range. Every change goes through the ArrayList's own methods, so
+     * the hash index and the modification count stay correct.
+     */
+    public class SubList implements List<E> {
+        // view this one was taken from, null when it was taken from the ArrayList
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int expectedModCount = modCount;
+        /***
+         * Constructor with three arguments
+         * @param parent - view this one was taken from, null for the ArrayList
+         * @param offset - index in the ArrayList of the first element of the view
+         * @param size - number of elements in the view
+         */
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+        }
+        /***
+         * Method to add an item to the end of the view, which inserts it into the ArrayList
+         * @param item - item being added
+         * @return - true if added successfully
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public boolean add(E item) { //O(n)
+            return add(size, item);
+        }
+        /***
+         * Method to add an item at the given index of the view
+         * @param index - index being added at
+         * @param item - item being added
+         * @return - true if added successfully
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size of the view
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public boolean add(int index, E item) { //O(n)
+            checkPosition(index);
+            checkForComodification();
+            ArrayList.this.add(offset + index, item);
+            changed(1);
+            return true;
+        }
+        /***
+         * Method to return the object at the given index of the view
+         * @param index - index that the value is being returned from
+         * @return - object at index
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the view
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public E get(int index) { //O(1)
+            checkIndex(index);
+            checkForComodification();
+            return elements[offset + index];
+        }
+        /***
+         * Method to set the value of the object at the given index of the view
+         * @param index - index being set
+         * @param item - value being set
+         * @return - previous value of the object at the index
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the view
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public E set(int index, E item) { //O(1)
+            checkIndex(index);
+            checkForComodification();
+            return ArrayList.this.set(offset + index, item);
+        }
+        /***
+         * Method to remove the object at the given index of the view from the ArrayList
+         * @param index - index the object is removed from
+         * @return - the item at the index
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the view
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public E remove(int index) { //O(n)
+            checkIndex(index);
+            checkForComodification();
+            E item = ArrayList.this.remove(offset + index);
+            changed(-1);
+            return item;
+        }
+        /***
+         * Method to remove a range of the view from the ArrayList with one arraycopy
+         * @param from - index in the view of the first element removed
+         * @param to - index in the view after the last element removed
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public void removeRange(int from, int to) { //O(n)
+            checkRange(from, to);
+            checkForComodification();
+            ArrayList.this.removeRange(offset + from, offset + to);
+            changed(from - to);
+        }
+        /***
+         * Method to remove every element of the view from the ArrayList
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public void clear() { //O(n)
+            removeRange(0, size);
+        }
+        /***
+         * Method to return the size of the view
+         * @return - number of elements in the view
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public int size() { //O(1)
+            checkForComodification();
+            return size;
+        }
+        /***
+         * Method to check if the view is empty
+         * @return - if the size equals zero
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public boolean isEmpty() { //O(1)
+            return size() == 0;
+        }
+        /***
+         * Method to return a view of a range of this view, changes made through it show in this one
+         * @param from - index in this view of the first element
+         * @param to - index in this view after the last element
+         * @return - SubList backed by the same ArrayList
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public SubList subList(int from, int to) { //O(1)
+            checkRange(from, to);
+            checkForComodification();
+            return new SubList(this, offset + from, to - from);
+        }
+        /***
+         * Method that returns a ListIterator that begins at the 0th index of the view
+         * @return - ListIterator
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public ListIterator<E> listIterator() { //O(1)
+            return listIterator(0);
+        }
+        /***
+         * Method that returns a ListIterator that begins at the specified index of the view
+         * @param index - index of the element returned by the first call to next(), size() to start at the end
+         * @return - ListIterator
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size of the view
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public ListIterator<E> listIterator(int index) { //O(1)
+            checkPosition(index);
+            checkForComodification();
+            return new SubListIterator(ArrayList.this.listIterator(offset + index));
+        }
+        /***
+         * Method to return a Spliterator over the elements of the view, splitting its index range in half
+         * @return - Spliterator
+         * @throws ConcurrentModificationException if the ArrayList was changed outside the view
+         */
+        public Spliterator<E> spliterator() { //O(1)
+            checkForComodification();
+            return new ArrayListSpliterator(offset, offset + size);
+        }
+        /***
+         * Method to return the String reppresentation of the view, in the same form as the ArrayList's
+         * @return - String of the view
+         */
+        public String toString() { //O(n)
+            return ListWriter.toString(this, false);
+        }
+        /***
+         * Method to record a change of size made through this view in it and in every view it was taken from
+         * @param delta - number of elements added, negative when removed
+         */
+        private void changed(int delta) { //O(depth of views)
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += delta;
+                view.expectedModCount = modCount;
+            }
+        }
+        /***
+         * Method to check if an index of the view is valid
+         * @param index - index being checked
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the view
+         */
+        private void checkIndex(int index) { //O(1)
+            if (index < 0 || index >= size)
+                throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+        }
+        /***
+         * Method to check if a cursor position of the view is valid
+         * @param index - position being checked
+         * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size of the view
+         */
+        private void checkPosition(int index) { //O(1)
+            if (index < 0 || index > size)
+                throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+        }
+        /***
+         * Method to check if a range of the view is valid
+         * @param from - first index of the range
+         * @param to - index after the last one of the range
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         */
+        private void checkRange(int from, int to) { //O(1)
+            if (from < 0 || to > size || from > to)
+                throw new ArrayIndexOutOfBoundsException("Range out of bounds. Must be within 0 and "+size);
+        }
+        /***
+         * Method to check that the ArrayList was only changed through this view
+         * @throws ConcurrentModificationException if it was not
+         */
+        private void checkForComodification() { //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /***
+         * Inner class for a ListIterator over the view
+         * Wraps a fail-fast iterator of the ArrayList and stops it at the ends of the view
+         */
+        private class SubListIterator implements ListIterator<E> {
+            private final ListIterator<E> it;
+            /***
+             * Constructor with one argument
+             * @param it - iterator of the ArrayList positioned inside the view
+             */
+            SubListIterator(ListIterator<E> it) {
+                this.it = it;
+            }
+            /***
+             * Method to check if there is an element of the view after the cursor
+             * @return - true if the cursor is before the end of the view
+             */
+            public boolean hasNext() { //O(1)
+                return nextIndex() < size;
+            }
+            /***
+             * Method to return the next element
+             * @return - next element of type E in the view
+             * @throws NoSuchElementException if there is no next element
+             * @throws ConcurrentModificationException if the ArrayList was changed by something else
+             */
+            public E next() { //O(1)
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return it.next();
+            }
+            /***
+             * Method to check if there is an element of the view before the cursor
+             * @return - true if the cursor is after the start of the view
+             */
+            public boolean hasPrevious() { //O(1)
+                return nextIndex() > 0;
+            }
+            /***
+             * Method to return the previous element
+             * @return - previous element of type E in the view
+             * @throws NoSuchElementException if there is no previous element
+             * @throws ConcurrentModificationException if the ArrayList was changed by something else
+             */
+            public E previous() { //O(1)
+                if (!hasPrevious())
+                    throw new NoSuchElementException();
+                return it.previous();
+            }
+            /***
+             * Method to return the index in the view of the element next() would return
+             * @return - index
+             */
+            public int nextIndex() { //O(1)
+                return it.nextIndex() - offset;
+            }
+            /***
+             * Method to return the index in the view of the element previous() would return
+             * @return - index
+             */
+            public int previousIndex() { //O(1)
+                return it.previousIndex() - offset;
+            }
+            /***
+             * Method to replace the element last returned by next() or previous()
+             * @param value - new value
+             */
+            public void set(E value) { //O(1)
+                it.set(value);
+            }
+            /***
+             * Method to insert an element at the cursor, the view grows by one
+             * @param value - value being added
+             */
+            public void add(E value) { //O(n)
+                it.add(value);
+                changed(1);
+            }
+            /***
+             * Method to remove the element last returned by next() or previous(), the view shrinks by one
+             */
+            public void remove() { //O(n)
+                it.remove();
+                changed(-1);
+            }
+        }
+    }
+
+    /***
+     * Inner class for a Spliterator over a range of indices of the ArrayList
      */
-    public ListIterator<E> listIterator(int index){
-        checkIndex(index -1);
-        return (ListIterator<E>) iterator(index + 1);
+    private class ArrayListSpliterator implements Spliterator<E> {
+        private int index;
+        private final int end;
+        /***
+         * Constructor with two arguments
+         * @param index - first index of the range
+         * @param end - index after the last one of the range
+         */
+        ArrayListSpliterator(int index, int end) {
+            this.index = index;
+            this.end = end;
+        }
+        /***
+         * Method to pass the next element to an action
+         * @param action - action being run
+         * @return - false if the range was already used up
+         */
+        public boolean tryAdvance(Consumer<? super E> action) { //O(1)
+            if (index >= end)
+                return false;
+            action.accept(elements[index++]);
+            return true;
+        }
+        /***
+         * Method to pass every remaining element to an action
+         * @param action - action being run
+         */
+        public void forEachRemaining(Consumer<? super E> action) { //O(n)
+            E[] a = elements;
+            for (int i = index; i < end; i++)
+                action.accept(a[i]);
+            index = end;
+        }
+        /***
+         * Method to hand the first half of the range to a new Spliterator
+         * @return - Spliterator for the first half, or null if there is fewer than two elements left
+         */
+        public Spliterator<E> trySplit() { //O(1)
+            int middle = (index + end) >>> 1;
+            if (middle <= index)
+                return null;
+            Spliterator<E> prefix = new ArrayListSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+        /***
+         * Method to return the number of elements left
+         * @return - exact count
+         */
+        public long estimateSize() { //O(1)
+            return end - index;
+        }
+        /***
+         * Method to return the characteristics of the Spliterator
+         * @return - ORDERED, SIZED and SUBSIZED
+         */
+        public int characteristics() { //O(1)
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 
 }
@@ -0,0 +1,236 @@
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/***
+ * Class to model an append-only List that many threads can add to at once without a lock
+ * Elements live in segments whose sizes double (32, 64, 128, ...), so a segment never moves once it exists.
+ * A writer installs the segment of the next free index with a compare-and-set if it is missing, then claims the
+ * index by compare-and-setting its element into the empty slot, and only then moves the size past it. A writer
+ * that finds the slot already taken helps move the size on before it tries the next index. Every step that can
+ * fail comes before the claim, so the size never covers an empty slot and readers never wait or take a lock.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ConcurrentAppendList<E> implements List<E> {
+    // Size of the first segment as a power of two, segment k holds FIRST << k elements
+    private static final int FIRST_SHIFT = 5;
+    private static final int FIRST = 1 << FIRST_SHIFT;
+    // data members
+    private final AtomicReferenceArray<AtomicReferenceArray<E>> segments;
+    // Number of elements, every slot below it holds its element; the slot at size may already be claimed
+    private final AtomicInteger size;
+
+    /***
+     * Constructor with no arguments, makes an empty list
+     */
+    public ConcurrentAppendList() { //O(1)
+        segments = new AtomicReferenceArray<>(32 - FIRST_SHIFT);
+        size = new AtomicInteger();
+    }
+
+    /***
+     * Method to add an item to the end of the list, safe to call from any number of threads
+     * @param item - item being added
+     * @return - true if added
+     * @throws NullPointerException if item is null, null marks a slot that is not yet claimed
+     * @throws IllegalStateException if the list already holds Integer.MAX_VALUE - FIRST + 1 elements
+     */
+    public boolean add(E item) { //O(1), lock-free
+        if (item == null)
+            throw new NullPointerException();
+        while (true) {
+            int index = size.get();
+            if (index > Integer.MAX_VALUE - FIRST)
+                throw new IllegalStateException("List is full");
+            int k = segment(index);
+            AtomicReferenceArray<E> segment = segments.get(k);
+            if (segment == null) {
+                segments.compareAndSet(k, null, new AtomicReferenceArray<>(FIRST << k));
+                segment = segments.get(k);
+            }
+            boolean claimed = segment.compareAndSet(offset(index, k), null, item);
+            // whoever claimed the slot, the size moves past it; a failed compare-and-set means someone else moved it
+            size.compareAndSet(index, index + 1);
+            if (claimed)
+                return true;
+        }
+    }
+
+    /***
+     * Method to return the object at the given index
+     * @param index - index that the value is being returned from
+     * @return - object at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E get(int index) { //O(1)
+        int n = size.get();
+        if (index < 0 || index >= n)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(n-1));
+        return element(index);
+    }
+
+    /***
+     * Method to read a slot below the size, which always holds its element
+     * @param index - index below the size
+     * @return - the element
+     */
+    private E element(int index) { //O(1)
+        int k = segment(index);
+        return segments.get(k).get(offset(index, k));
+    }
+
+    /***
+     * Method to return the segment an index falls in
+     * @param index - index in the list
+     * @return - segment number
+     */
+    private static int segment(int index) { //O(1)
+        return 31 - Integer.numberOfLeadingZeros(index + FIRST) - FIRST_SHIFT;
+    }
+
+    /***
+     * Method to return where an index falls inside its segment
+     * @param index - index in the list
+     * @param k - segment number of the index
+     * @return - offset in the segment
+     */
+    private static int offset(int index, int k) { //O(1)
+        return index + FIRST - (FIRST << k);
+    }
+
+    /***
+     * Method to return the size of the list
+     * Counts every add that has returned, and may count some still returning
+     * @return - size of the List
+     */
+    public int size() { //O(1)
+        return size.get();
+    }
+
+    /***
+     * Method to check if the List is empty
+     * @return - if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size() == 0);
+    }
+
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        return ListWriter.toString(this);
+    }
+
+    /***
+     * Inner class for a ConcurrentAppendListIterator
+     * Sees the elements added before it was made, elements added later are not returned
+     */
+    private class ConcurrentAppendListIterator implements ListIterator<E>{
+        private final int end;
+        private int cursor;
+        /***
+         * Constructor with two arguments
+         * @param index - index of the element returned by the first call to next()
+         * @param end - size of the list when the iterator was made
+         */
+        ConcurrentAppendListIterator(int index, int end){
+            this.cursor = index;
+            this.end = end;
+        }
+        /***
+         * Method to check if there is an element after the cursor
+         * @return - true if the cursor is before the end of the snapshot
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < end;
+        }
+        /***
+         * Method to return the next element
+         * @return - next element of type E in the list
+         * @throws NoSuchElementException if there is no next element
+         */
+        public E next() { //O(1)
+            if (cursor >= end)
+                throw new NoSuchElementException();
+            return element(cursor++);
+        }
+        /***
+         * Method to check if there is an element before the cursor
+         * @return - true if the cursor is after the start
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous element
+         * @return - previous element of type E in the List
+         * @throws NoSuchElementException if there is no previous element
+         */
+        public E previous() { //O(1)
+            if (cursor <= 0)
+                throw new NoSuchElementException();
+            return element(--cursor);
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index
+         */
+        public int nextIndex(){
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index
+         */
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        /***
+         * Method that is not supported, the list is append-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void set(E value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, elements are added with ConcurrentAppendList.add
+         * @throws UnsupportedOperationException - always
+         */
+        public void add(E value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the list is append-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /***
+     * Method that returns a ListIterator over the elements added so far, beginning at the 0th index
+     * @return - ListIterator
+     */
+    public ListIterator<E> listIterator(){ //O(1)
+        return new ConcurrentAppendListIterator(0, size());
+    }
+
+    /***
+     * Method that returns a ListIterator over the elements added so far, beginning at the specified index
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> listIterator(int index){ //O(1)
+        int end = size();
+        if (index < 0 || index > end)
+            throw new ArrayIndexOutOfBoundsException();
+        return new ConcurrentAppendListIterator(index, end);
+    }
+}
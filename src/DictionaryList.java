@@ -0,0 +1,503 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/***
+ * Class to model a dictionary encoded List that implements List, for contents that repeat a small vocabulary
+ * Each distinct value is kept once in a symbol table and the List stores its code, the value's index in the table.
+ * Codes are bytes while there are at most 256 symbols, shorts up to 65536 and ints after that; the code array is
+ * widened once when the table outgrows its width. get() and the iterators return the one canonical instance of
+ * each value, the first equal one added. A HashIndex over the table finds a value's code without boxing.
+ * Symbols stay in the table when their last element is removed, until clear().
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class DictionaryList<E> implements List<E> {
+    // data members
+    // Only the array matching codeBytes is in use, the other two are null
+    private byte[] byteCodes;
+    private short[] shortCodes;
+    private int[] intCodes;
+    private int codeBytes;
+    private int size;
+    private E[] symbols;
+    private int symbolCount;
+    private HashIndex index;
+    // Number of changes to the size or order, iterators compare it with the count they saw to fail fast
+    private int modCount;
+
+    /***
+     * Constructor with no arguments
+     * Makes an empty list with room for 10 elements
+     */
+    public DictionaryList() { //O(1)
+        this(10);
+    }
+
+    /***
+     * Constructor with one argument, the capacity of the list
+     * @param capacity - number of elements the list holds before its code array grows
+     */
+    public DictionaryList(int capacity) { //O(1)
+        byteCodes = new byte[capacity];
+        codeBytes = 1;
+        symbols = (E[]) new Object[16];
+        index = new HashIndex();
+    }
+
+    /***
+     * Method to add an item to the end of the List
+     * @param item - item being added
+     * @return - true if added
+     */
+    public boolean add(E item) { //O(1) expected, up to O(n) when the codes grow or widen
+        int code = encode(item);
+        ensureCapacity(size + 1);
+        setCode(size++, code);
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Method to add an item at the given index
+     * @param index - index being added at
+     * @param item - item being added
+     * @return - true if added
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public boolean add(int index, E item) { //O(n)
+        checkPosition(index);
+        int code = encode(item);
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        setCode(index, code);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Method to return the object at the given index
+     * @param index - index that the value is being returned from
+     * @return - canonical instance of the value at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E get(int index) { //O(1)
+        checkIndex(index);
+        return symbols[code(index)];
+    }
+
+    /***
+     * Method to replace the object at the given index
+     * @param index - index being set
+     * @param item - new value
+     * @return - canonical instance of the value that was at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E set(int index, E item) { //O(1) expected
+        checkIndex(index);
+        E old = symbols[code(index)];
+        setCode(index, encode(item));
+        return old;
+    }
+
+    /***
+     * Method to remove the object at the given index
+     * @param index - index being removed
+     * @return - canonical instance of the value that was at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E remove(int index) { //O(n)
+        checkIndex(index);
+        E old = symbols[code(index)];
+        move(index + 1, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    /***
+     * Method to return the size of the list
+     * @return - number of elements
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to check if the list is empty
+     * @return - if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+
+    /***
+     * Method to empty the list and its symbol table, codes go back to bytes
+     */
+    public void clear() { //O(1)
+        byteCodes = new byte[10];
+        shortCodes = null;
+        intCodes = null;
+        codeBytes = 1;
+        size = 0;
+        symbols = (E[]) new Object[16];
+        symbolCount = 0;
+        index = new HashIndex();
+        modCount++;
+    }
+
+    /***
+     * Method to check if the list holds an object
+     * @param o - object being looked for
+     * @return - true if an element equals o
+     */
+    public boolean contains(Object o) { //O(1) expected when o was never added, O(n) otherwise
+        return indexOf(o) >= 0;
+    }
+
+    /***
+     * Method to return the index of the first element equal to an object
+     * Looks the object up in the symbol table once, then compares codes instead of calling equals()
+     * @param o - object being looked for
+     * @return - index, or -1 if no element equals o
+     */
+    public int indexOf(Object o) { //O(1) expected when o was never added, O(n) otherwise
+        int code = index.indexOf(symbols, symbolCount, o);
+        if (code < 0)
+            return -1;
+        for (int i = 0; i < size; i++)
+            if (code(i) == code)
+                return i;
+        return -1;
+    }
+
+    /***
+     * Method to return the number of distinct values in the symbol table
+     * @return - number of symbols, including ones no element uses any more
+     */
+    public int symbolCount() { //O(1)
+        return symbolCount;
+    }
+
+    /***
+     * Method to return the width of the codes
+     * @return - bytes per element, 1, 2 or 4
+     */
+    public int codeBytes() { //O(1)
+        return codeBytes;
+    }
+
+    /***
+     * Method to return the heap held by the list, not counting the values in the symbol table
+     * Assumes 4 byte references and 16 byte array headers, the defaults for heaps under 32GB
+     * @return - bytes used by the code array, the symbol table and its hash index
+     */
+    public long footprintBytes() { //O(1)
+        return 16L + (long) capacity() * codeBytes + 16L + 4L * symbols.length + index.footprintBytes();
+    }
+
+    /***
+     * Method to trim the capacity of the code array to the size
+     */
+    public void trimToSize() { //O(n)
+        if (size != capacity())
+            resize(size, codeBytes);
+    }
+
+    /***
+     * Method to return the code of a value, adding the value to the symbol table if it is not there
+     * @param item - value being encoded
+     * @return - code of the value
+     */
+    private int encode(E item) { //O(1) expected, O(n) when the codes widen
+        int code = index.indexOf(symbols, symbolCount, item);
+        if (code >= 0)
+            return code;
+        if (symbolCount == symbols.length)
+            symbols = Arrays.copyOf(symbols, symbolCount * 2);
+        code = symbolCount;
+        symbols[code] = item;
+        index.add(symbols, code);
+        symbolCount++;
+        if (symbolCount > 1 << 8 && codeBytes == 1)
+            resize(capacity(), 2);
+        else if (symbolCount > 1 << 16 && codeBytes == 2)
+            resize(capacity(), 4);
+        return code;
+    }
+
+    /***
+     * Method to return the code stored at an index
+     * @param index - index, not checked
+     * @return - code
+     */
+    private int code(int index) { //O(1)
+        if (codeBytes == 1)
+            return byteCodes[index] & 0xFF;
+        if (codeBytes == 2)
+            return shortCodes[index] & 0xFFFF;
+        return intCodes[index];
+    }
+
+    /***
+     * Method to store a code at an index
+     * @param index - index, not checked
+     * @param code - code being stored
+     */
+    private void setCode(int index, int code) { //O(1)
+        if (codeBytes == 1)
+            byteCodes[index] = (byte) code;
+        else if (codeBytes == 2)
+            shortCodes[index] = (short) code;
+        else
+            intCodes[index] = code;
+    }
+
+    /***
+     * Method to move a run of codes inside the code array
+     * @param from - first index of the run
+     * @param to - index the run moves to
+     * @param length - number of codes
+     */
+    private void move(int from, int to, int length) { //O(length)
+        if (codeBytes == 1)
+            System.arraycopy(byteCodes, from, byteCodes, to, length);
+        else if (codeBytes == 2)
+            System.arraycopy(shortCodes, from, shortCodes, to, length);
+        else
+            System.arraycopy(intCodes, from, intCodes, to, length);
+    }
+
+    /***
+     * Method to return the capacity of the code array
+     * @return - number of codes it holds
+     */
+    private int capacity() { //O(1)
+        if (codeBytes == 1)
+            return byteCodes.length;
+        return codeBytes == 2 ? shortCodes.length : intCodes.length;
+    }
+
+    /***
+     * Method to make sure the code array holds at least a number of codes, growing it by half when it does not
+     * @param minCapacity - number of codes needed
+     */
+    private void ensureCapacity(int minCapacity) { //O(n) when it grows
+        int capacity = capacity();
+        if (minCapacity > capacity)
+            resize(Math.max(capacity + (capacity >> 1), minCapacity), codeBytes);
+    }
+
+    /***
+     * Method to copy the codes into a new array of some capacity and width
+     * @param capacity - capacity of the new array, at least the size
+     * @param width - bytes per code of the new array, not less than the current width
+     */
+    private void resize(int capacity, int width) { //O(n)
+        byte[] bytes = width == 1 ? new byte[capacity] : null;
+        short[] shorts = width == 2 ? new short[capacity] : null;
+        int[] ints = width == 4 ? new int[capacity] : null;
+        if (width == codeBytes) {
+            if (width == 1)
+                System.arraycopy(byteCodes, 0, bytes, 0, size);
+            else if (width == 2)
+                System.arraycopy(shortCodes, 0, shorts, 0, size);
+            else
+                System.arraycopy(intCodes, 0, ints, 0, size);
+        }
+        else {
+            for (int i = 0; i < size; i++) {
+                if (width == 2)
+                    shorts[i] = (short) code(i);
+                else
+                    ints[i] = code(i);
+            }
+        }
+        byteCodes = bytes;
+        shortCodes = shorts;
+        intCodes = ints;
+        codeBytes = width;
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the List
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to check if a cursor position is valid
+     * @param index - position being checked
+     * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size
+     */
+    private void checkPosition(int index){ //O(1)
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+    }
+
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        return ListWriter.toString(this);
+    }
+
+    /***
+     * Method to return an Iterator object of type DictionaryListIterator
+     * @param - index of the element before the one the first call to next() returns, -1 to start at the beginning
+     * @return - Iterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than -1 or greater than or equal to the size
+     */
+    public Iterator<E> iterator(int index){
+        return listIterator(index + 1);
+    }
+
+    /***
+     * Inner class for an Iterator of type DictionaryListIterator
+     * The cursor sits between elements: next() returns the element at the cursor, previous() the one before it.
+     * Fail-fast: any change to the DictionaryList not made through this iterator makes its next call throw
+     * ConcurrentModificationException.
+     */
+    private class DictionaryListIterator implements ListIterator<E>{
+        private int cursor;
+        // index of the element returned by the last next() or previous(), -1 after add() or remove()
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+        /***
+         * Constructor with one parameter
+         * @param index - index of the element returned by the first call to next()
+         */
+        DictionaryListIterator(int index){
+            cursor = index;
+        }
+        /***
+         * Method to determine if there is an element after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < size;
+        }
+        /***
+         * Method to return the next element
+         * @return - canonical instance of the next element in the DictionaryList
+         * @throws NoSuchElementException if there is no next element
+         * @throws ConcurrentModificationException if the DictionaryList was changed by something else
+         */
+        public E next() { //O(1)
+            checkForComodification();
+            int i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            cursor = i + 1;
+            return symbols[code(lastReturned = i)];
+        }
+        /***
+         * Method to determine if there is an element before the cursor
+         * @return - true if the cursor is after the first element
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous element
+         * @return - canonical instance of the previous element in the DictionaryList
+         * @throws NoSuchElementException if there is no previous element
+         * @throws ConcurrentModificationException if the DictionaryList was changed by something else
+         */
+        public E previous() { //O(1)
+            checkForComodification();
+            int i = cursor - 1;
+            if (i < 0)
+                throw new NoSuchElementException();
+            cursor = i;
+            return symbols[code(lastReturned = i)];
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index, the size at the end
+         */
+        public int nextIndex(){ //O(1)
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index, -1 at the beginning
+         */
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method to replace the element last returned by next() or previous()
+         * @param value - new value
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the DictionaryList was changed by something else
+         */
+        public void set(E value){ //O(1) expected
+            if (lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            DictionaryList.this.set(lastReturned, value);
+        }
+        /***
+         * Method to insert an element at the cursor, before the element next() would return
+         * @param value - value being added
+         * @throws ConcurrentModificationException if the DictionaryList was changed by something else
+         */
+        public void add(E value){ //O(n)
+            checkForComodification();
+            DictionaryList.this.add(cursor++, value);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to remove the element last returned by next() or previous()
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the DictionaryList was changed by something else
+         */
+        public void remove(){ //O(n)
+            if (lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            DictionaryList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to check that the DictionaryList was only changed through this iterator
+         * @throws ConcurrentModificationException if it was not
+         */
+        private void checkForComodification(){ //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the 0th index of the DictionaryList
+     * @return - ListIterator
+     */
+    public ListIterator<E> listIterator(){ //O(1)
+        return new DictionaryListIterator(0);
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the specified index of the DictionaryList
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> listIterator(int index){ //O(1)
+        checkPosition(index);
+        return new DictionaryListIterator(index);
+    }
+}
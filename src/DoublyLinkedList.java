@@ -1,17 +1,33 @@
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /***
  * Class to model a Doubly Linked List
  * @author Marco Clark
  * Date Created: 3/31/2022
- * Date Last Modified: 4/16/2022
+ * Date Last Modified: 10/18/2026
  */
 public class DoublyLinkedList<E> implements List<E>{
     // Data members
     private Node head, tail;
     int size;
+    // Finger: the node most recently reached by position and its index, so nearby positions are found by a short walk
+    // finger is null when no position is cached
+    private Node finger;
+    private int fingerIndex;
+    // Number of changes to the size or order, iterators compare it with the count they saw to fail fast
+    private int modCount;
+    // Optional pool of removed nodes, linked through next, that new elements reuse instead of allocating
+    // The pool holds at most poolCapacity nodes, zero unless enableNodePool() was called
+    private Node free;
+    private int freeCount;
+    private int poolCapacity;
     /***
      * Inner Class to model a node
      */
@@ -43,16 +59,19 @@ public class DoublyLinkedList<E> implements List<E>{
      * @return - true if added
      */
     public boolean addFirst(E item) { //O(1)
-        Node newNode = new Node(item);
+        Node newNode = newNode(item);
         if(head == null) { 
             head = tail = newNode; 
         }
         else { 
             newNode.next = head;
             newNode.previous = null;
+            head.previous = newNode;
             head = newNode;
         }
+        fingerIndex++;
         size++; 
+        modCount++;
         return true;
     }
     /***
@@ -61,7 +80,7 @@ public class DoublyLinkedList<E> implements List<E>{
      * @return - true if added
      */
     public boolean addLast(E item) { //O(1)
-        Node newNode = new Node(item);
+        Node newNode = newNode(item);
         if(head == null) { 
             head = tail = newNode; 
         }
@@ -71,6 +90,7 @@ public class DoublyLinkedList<E> implements List<E>{
             tail = newNode; 
         }
         size++; 
+        modCount++;
         return true;
     }
     /***
@@ -110,10 +130,7 @@ public class DoublyLinkedList<E> implements List<E>{
     public boolean removeFirst() { //O(1)
         if (head == null) 
             throw new NoSuchElementException();
-        head = head.next;
-        if(head == null) 
-            tail=null;
-        size--; 
+        unlink(head, 0);
         return true;
     }
     /***
@@ -121,43 +138,392 @@ public class DoublyLinkedList<E> implements List<E>{
      * @return - true if removed successfully
      * @throws NoSuchElementException - if the head is null
      */
-    public boolean removeLast() { //O(n)
+    public boolean removeLast() { //O(1)
         if (head == null) 
             throw new NoSuchElementException();
-        if(size == 1) 
-            return removeFirst();
-        Node current = head;
-        Node previous = null;
-        while(current.next != null) {
-            previous = current; 
-            current = current.next;
-        }
-        previous.next = null; 
-        tail = previous;
-        size--; 
+        unlink(tail, size - 1);
         return true;
     }
     /***
-     * Method to return the String reppresentation of the List
-     * @return - String of the List
+     * Method to return the object at the given index
+     * @param index - index that the value is being returned from
+     * @return - object at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
      */
-    public String toString() { //O(n)
-        String output = "[";
+    public E get(int index) { //O(1) near either end or the last position used, O(n) worst case
+        checkIndex(index);
+        return node(index).value;
+    }
+    /***
+     * Method to set the value of the object at the given index
+     * @param index - index being set
+     * @param item - value being set
+     * @return - previous value of the object at the index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E set(int index, E item) { //O(1) near either end or the last position used, O(n) worst case
+        checkIndex(index);
+        Node node = node(index);
+        E oldItem = node.value;
+        node.value = item;
+        return oldItem;
+    }
+    /***
+     * Method to add an item at the given index
+     * @param index - index being added at
+     * @param item - item being added
+     * @return - true if added successfully
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public boolean add(int index, E item) { //O(1) near either end or the last position used, O(n) worst case
+        if (index > size || index < 0)
+            throw new ArrayIndexOutOfBoundsException();
+        if (index == 0)
+            return addFirst(item);
+        if (index == size)
+            return addLast(item);
+        return linkBefore(node(index), index, item);
+    }
+    /***
+     * Method to put a new node in front of another one, keeping head, size and the finger correct
+     * @param next - node the new one goes before
+     * @param index - index of next, which becomes the index of the new node
+     * @param item - item being added
+     * @return - true if added successfully
+     */
+    private boolean linkBefore(Node next, int index, E item) { //O(1)
+        if (next == head)
+            return addFirst(item);
+        Node newNode = newNode(item);
+        newNode.previous = next.previous;
+        newNode.next = next;
+        next.previous.next = newNode;
+        next.previous = newNode;
+        // the finger was on the node now at index + 1, move it to the new node
+        finger = newNode;
+        fingerIndex = index;
+        size++;
+        modCount++;
+        return true;
+    }
+    /***
+     * Method to remove the object at a specific index
+     * @param index - index the object is removed from
+     * @return - the item at the index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E remove(int index) { //O(1) near either end or the last position used, O(n) worst case
+        checkIndex(index);
+        Node node = node(index);
+        E item = node.value;
+        unlink(node, index);
+        return item;
+    }
+    /***
+     * Method to take a node out of the chain, keeping head, tail, size and the finger correct
+     * The node is recycled, so its value must be read before
+     * @param node - node being removed
+     * @param index - index of the node
+     */
+    private void unlink(Node node, int index) { //O(1)
+        Node before = node.previous;
+        Node after = node.next;
+        if (before == null)
+            head = after;
+        else
+            before.next = after;
+        if (after == null)
+            tail = before;
+        else
+            after.previous = before;
+        recycle(node);
+        if (finger == node) {
+            finger = after;
+        }
+        else if (index < fingerIndex) {
+            fingerIndex--;
+        }
+        if (finger == null && before != null) {
+            finger = before;
+            fingerIndex = index - 1;
+        }
+        size--;
+        modCount++;
+    }
+    /***
+     * Method to make a node for an item, taken from the node pool when it has one
+     * @param item - value of the node
+     * @return - node with no next or previous node
+     */
+    private Node newNode(E item) { //O(1)
+        Node node = free;
+        if (node == null)
+            return new Node(item);
+        free = node.next;
+        freeCount--;
+        node.next = null;
+        node.value = item;
+        return node;
+    }
+    /***
+     * Method to let go of a node that was taken out of the chain
+     * Clears its value and links so it keeps nothing reachable, then keeps it in the node pool if there is room
+     * @param node - node no longer in the List
+     */
+    private void recycle(Node node) { //O(1)
+        node.value = null;
+        node.previous = null;
+        if (freeCount < poolCapacity) {
+            node.next = free;
+            free = node;
+            freeCount++;
+        }
+        else {
+            node.next = null;
+        }
+    }
+    /***
+     * Method to turn on the node pool, so nodes let go by removes and clear() are reused by later adds
+     * Under queue-like churn (addLast() then removeFirst()) the List then allocates nothing once the pool has
+     * warmed up. A node can come back holding another element, so an unchecked iterator or a Spliterator that
+     * outlives a change to the List may see elements out of place.
+     * @param capacity - most nodes kept in the pool, each costs about 24 bytes while it waits
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public void enableNodePool(int capacity) { //O(1), O(pooled nodes) when shrinking
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity must not be negative");
+        poolCapacity = capacity;
+        while (freeCount > capacity) {
+            free = free.next;
+            freeCount--;
+        }
+    }
+    /***
+     * Method to turn off the node pool and release the nodes it holds
+     */
+    public void disableNodePool() { //O(1)
+        poolCapacity = 0;
+        free = null;
+        freeCount = 0;
+    }
+    /***
+     * Method to return the number of nodes waiting in the node pool
+     * @return - pooled nodes, zero when the pool is off
+     */
+    public int pooledNodes() { //O(1)
+        return freeCount;
+    }
+    /***
+     * Method to return the node at the given index
+     * Walks from the head, the tail or the finger, whichever is closest, and leaves the finger on the node found
+     * @param index - index of the node, between 0 and size - 1
+     * @return - node at index
+     */
+    private Node node(int index) { //O(1) near either end or the finger, O(n) worst case
         Node node = head;
-        while(node != null) {
-            output += node.value + " ";
+        int at = 0;
+        int distance = index;
+        if (size - 1 - index < distance) {
+            node = tail;
+            at = size - 1;
+            distance = size - 1 - index;
+        }
+        if (finger != null && Math.abs(index - fingerIndex) < distance) {
+            node = finger;
+            at = fingerIndex;
+        }
+        while (at < index) {
             node = node.next;
+            at++;
+        }
+        while (at > index) {
+            node = node.previous;
+            at--;
         }
-        output += "]";
-        return output;
+        finger = node;
+        fingerIndex = index;
+        return node;
+    }
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the List
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+    /***
+     * Method to remove the elements from one index up to another
+     * Finds the first node of the run, then the last one from there or from the tail, whichever is closer, and
+     * unlinks the run at once: a run that ends away from the tail is walked through to find its last node
+     * @param from - index of the first element removed
+     * @param to - index after the last element removed
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    public void removeRange(int from, int to) { //O(min(to - from, n - to)) once the first node is found, O(n) worst case
+        checkRange(from, to);
+        int count = to - from;
+        if (count == 0)
+            return;
+        Node first = node(from);
+        Node last = node(to - 1);
+        Node before = first.previous;
+        Node after = last.next;
+        if (before == null)
+            head = after;
+        else
+            before.next = after;
+        if (after == null)
+            tail = before;
+        else
+            after.previous = before;
+        first.previous = null;
+        last.next = null;
+        // the cut run is unreachable as a whole, only the nodes the pool has room for are visited
+        for (Node node = first; node != null && freeCount < poolCapacity; ) {
+            Node next = node.next;
+            recycle(node);
+            node = next;
+        }
+        if (after != null) {
+            finger = after;
+            fingerIndex = from;
+        }
+        else {
+            finger = before;
+            fingerIndex = from - 1;
+        }
+        size -= count;
+        modCount++;
+    }
+    /***
+     * Method to move every node of another DoublyLinkedList to the end of this one
+     * Only the links at the seam change, so it takes the same time however long either List is
+     * @param other - DoublyLinkedList whose nodes are moved, left empty
+     * @throws IllegalArgumentException if other is this List
+     */
+    public void concat(DoublyLinkedList<E> other) { //O(1)
+        splice(size, other);
+    }
+    /***
+     * Method to move every node of another DoublyLinkedList into this one, in front of the given index
+     * Only the links at the two seams change
+     * @param index - index the first moved node ends up at, size() to append
+     * @param other - DoublyLinkedList whose nodes are moved, left empty
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     * @throws IllegalArgumentException if other is this List
+     */
+    public void splice(int index, DoublyLinkedList<E> other) { //O(1) near either end or the finger, O(n) worst case
+        checkPosition(index);
+        if (other == this)
+            throw new IllegalArgumentException("Cannot splice a List into itself");
+        if (other.size == 0)
+            return;
+        Node first = other.head;
+        Node last = other.tail;
+        Node next = index == size ? null : node(index);
+        Node before = next == null ? tail : next.previous;
+        first.previous = before;
+        last.next = next;
+        if (before == null)
+            head = first;
+        else
+            before.next = first;
+        if (next == null)
+            tail = last;
+        else
+            next.previous = last;
+        if (finger != null && fingerIndex >= index)
+            fingerIndex += other.size;
+        size += other.size;
+        modCount++;
+        other.head = other.tail = other.finger = null;
+        other.size = 0;
+        other.modCount++;
+    }
+    /***
+     * Method to sort the List, keeping equal elements in their order
+     * A bottom-up merge sort that relinks the nodes in place: runs of 1, 2, 4, ... nodes are merged pairwise
+     * until a single run is left, so nothing is allocated and no value is moved to another node
+     * @param c - Comparator, null to sort Comparable elements in their natural order
+     */
+    public void sort(Comparator<? super E> c) { //O(n log n)
+        if (size < 2)
+            return;
+        Comparator<? super E> order = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        Node list = head;
+        Node last = null;
+        for (int run = 1; ; run <<= 1) {
+            Node p = list;
+            list = null;
+            last = null;
+            int merges = 0;
+            while (p != null) {
+                merges++;
+                // q starts the second run of the pair, up to run nodes after p
+                Node q = p;
+                int pSize = 0;
+                while (pSize < run && q != null) {
+                    q = q.next;
+                    pSize++;
+                }
+                int qSize = run;
+                while (pSize > 0 || (qSize > 0 && q != null)) {
+                    Node next;
+                    if (pSize > 0 && (qSize == 0 || q == null || order.compare(q.value, p.value) >= 0)) {
+                        next = p;
+                        p = p.next;
+                        pSize--;
+                    }
+                    else {
+                        next = q;
+                        q = q.next;
+                        qSize--;
+                    }
+                    if (last == null)
+                        list = next;
+                    else
+                        last.next = next;
+                    next.previous = last;
+                    last = next;
+                }
+                p = q;
+            }
+            last.next = null;
+            if (merges <= 1)
+                break;
+        }
+        head = list;
+        tail = last;
+        head.previous = null;
+        finger = null;
+        modCount++;
+    }
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        return ListWriter.toString(this);
     }
     /***
      * Method to make the Linked list empty
      * Sets size equal to zero, head and tail equal to null
+     * With the node pool on, nodes are moved to the pool until it is full, the rest are left to the collector
      */
-    public void clear() { //O(1)
+    public void clear() { //O(1), O(nodes pooled) with the node pool on
+        Node node = head;
+        while (node != null && freeCount < poolCapacity) {
+            Node next = node.next;
+            recycle(node);
+            node = next;
+        }
         head = tail = null; 
+        finger = null;
         size = 0;
+        modCount++;
     }
     /***
      * Method to check if the List is empty
@@ -173,121 +539,252 @@ public class DoublyLinkedList<E> implements List<E>{
     public int size() { //O(1)
         return size; 
     }
+    /***
+     * Method to check if the List holds an object
+     * @param o - object being looked for, may be null
+     * @return - true if an element equals o
+     */
+    public boolean contains(Object o) { //O(n)
+        return indexOf(o) >= 0;
+    }
+    /***
+     * Method to return the index of the first element equal to an object
+     * @param o - object being looked for, may be null
+     * @return - index, or -1 if no element equals o
+     */
+    public int indexOf(Object o) { //O(n)
+        int index = 0;
+        for (Node node = head; node != null; node = node.next, index++)
+            if (Objects.equals(node.value, o))
+                return index;
+        return -1;
+    }
 
     /***
-     * Method to return a DoublyLinkedListIterator that starts iterating at the specified index
-     * @param index - index the list starts at
+     * Method to return a DoublyLinkedListIterator whose first next() returns the element after the specified index
+     * @param index - index of the element before the one the first call to next() returns, -1 to start at the head
      * @return - Iterator object
+     * @throws ArrayIndexOutOfBoundsException if the index is less than -1 or greater than or equal to the size
      */
-    public Iterator<E> iterator(int index){ //O(1)
-        return new DoublyLinkedListIterator(index);
+    public Iterator<E> iterator(int index){ //O(1) near either end or the finger, O(n) - worst
+        return listIterator(index + 1);
     }
     /***
      * Inner class for a DoublyLinkedListIterator
+     * The cursor sits between nodes: next() returns the value of the node after it, previous() the one before it.
+     * Fail-fast: any change to the List not made through this iterator makes its next call throw
+     * ConcurrentModificationException.
      */
     private class DoublyLinkedListIterator implements ListIterator<E>{
-        private Node current = head;
-        private Node previous = null;
+        // node next() returns, null at the end
+        private Node next;
+        // node returned by the last next() or previous(), null after add() or remove()
+        private Node lastReturned;
+        private int cursor;
+        private int expectedModCount = modCount;
         /***
          * Constructor with one argument
-         * @param index - index the Iterator starts iterating at
-         * @throws ArrayIndexOutOfBoundsException if the index is less than -1 or greater than the size of the List
+         * @param index - index of the element returned by the first call to next(), between 0 and size
          */
-        public DoublyLinkedListIterator(int index){ //O(1) - best  O(n) - worst
-            if (index == size-1){
-                current = tail;
-                previous = tail.previous;
-            }
-            else if (index < -1 || index > size){
-                throw new ArrayIndexOutOfBoundsException();
-            }
-            //If the index isn't for the head or tail, then use the next() method so the iterator will begin at index when used
-            else if (index != -1) {
-                for (int i = -1; i < index; i++){
-                    this.next();
-                }
-            }
-            else if (index == -1){
-                //Do nothing
-            }
+        public DoublyLinkedListIterator(int index){ //O(1) near either end or the finger, O(n) - worst
+            next = index == size ? null : node(index);
+            cursor = index;
         }
         /***
-         * Method to check if the Iterator has a non-null object after current
-         * @return - true if the current object is not null
+         * Method to check if there is an element after the cursor
+         * @return - true if the cursor is before the end
          */
         public boolean hasNext() { //O(1)
-            return (current != null);
+            return cursor < size;
         }
         /***
          * Method to return the next element of the Iterator
          * @return - next element of type E in the list
-         * @throws NoSuchElementException if current is null
+         * @throws NoSuchElementException if there is no next element
+         * @throws ConcurrentModificationException if the List was changed by something else
          */
         public E next() { //O(1)
-            if(current == null)
+            checkForComodification();
+            if (next == null)
                 throw new NoSuchElementException();
-            E temp = current.value;
-            previous = current;
-            current = current.next; 
-            return temp;
+            lastReturned = next;
+            next = next.next;
+            cursor++;
+            return lastReturned.value;
         }
         /***
-         * Method to check if the Iterator has a previous element
-         * @return - true if the current element is not null
+         * Method to check if there is an element before the cursor
+         * @return - true if the cursor is after the head
          */
         public boolean hasPrevious() { //O(1)
-            return !(current == null);
+            return cursor > 0;
         }
         /***
-         * Method to retrun the previous elemenet of the Iterator
+         * Method to return the previous element of the Iterator
          * @return - previous element of type E in the List
-         * Does NOT throw an excpetion due to issues when printing the head
+         * @throws NoSuchElementException if there is no previous element
+         * @throws ConcurrentModificationException if the List was changed by something else
          */
         public E previous() { //O(1)
-            E temp = current.value;
-            current = current.previous;
-            //This conditional block was necessary to prevent issues when 
-            //printing the head, as the previous of the head is null
-            if (current == null){
-                previous = null;
-                return temp;
+            checkForComodification();
+            if (cursor <= 0)
+                throw new NoSuchElementException();
+            next = next == null ? tail : next.previous;
+            lastReturned = next;
+            cursor--;
+            return lastReturned.value;
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index, the size at the end
+         */
+        public int nextIndex(){ //O(1)
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index, -1 at the head
+         */
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method to replace the value last returned by next() or previous()
+         * @param value - new value
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void set(E value){ //O(1)
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.value = value;
+        }
+        /***
+         * Method to insert a value at the cursor, before the element next() would return
+         * @param value - value being added
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void add(E value){ //O(1)
+            checkForComodification();
+            if (next == null)
+                addLast(value);
+            else
+                linkBefore(next, cursor, value);
+            cursor++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to remove the node last returned by next() or previous()
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void remove(){ //O(1)
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+            Node after = lastReturned.next;
+            if (next == lastReturned) {
+                // returned by previous(), the cursor stays where it is
+                unlink(lastReturned, cursor);
+                next = after;
             }
             else {
-                previous = current.previous;
-                return temp;
+                unlink(lastReturned, --cursor);
             }
+            lastReturned = null;
+            expectedModCount = modCount;
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method to check that the List was only changed through this iterator
+         * @throws ConcurrentModificationException if it was not
          */
-        public int nextIndex(){
-            throw new UnsupportedOperationException();
+        private void checkForComodification(){ //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
         }
+    }
+    /***
+     * Inner class for a read-only ListIterator with no checks
+     * next() and previous() only follow a link, nothing is checked: changing the List during the loop, or
+     * calling next() when hasNext() is false, gives unspecified results instead of an exception
+     */
+    private class UncheckedDoublyLinkedListIterator implements ListIterator<E>{
+        private Node next;
+        private int cursor;
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Constructor with one argument
+         * @param index - index of the element returned by the first call to next(), between 0 and size
          */
-        public int previousIndex(){
-            throw new UnsupportedOperationException();
+        UncheckedDoublyLinkedListIterator(int index){ //O(1) near either end or the finger, O(n) - worst
+            next = index == size ? null : node(index);
+            cursor = index;
+        }
+        /***
+         * Method to check if there is an element after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return next != null;
+        }
+        /***
+         * Method to return the next element, hasNext() must be true
+         * @return - next element of type E in the list
+         */
+        public E next() { //O(1)
+            Node node = next;
+            next = node.next;
+            cursor++;
+            return node.value;
+        }
+        /***
+         * Method to check if there is an element before the cursor
+         * @return - true if the cursor is after the head
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous element, hasPrevious() must be true
+         * @return - previous element of type E in the List
+         */
+        public E previous() { //O(1)
+            next = next == null ? tail : next.previous;
+            cursor--;
+            return next.value;
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method to return the index of the element next() would return
+         * @return - index
+         */
+        public int nextIndex(){ //O(1)
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index
+         */
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void set(E value){
             throw new UnsupportedOperationException();
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void add(E value){
             throw new UnsupportedOperationException();
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void remove(){
             throw new UnsupportedOperationException();
@@ -298,14 +795,461 @@ public class DoublyLinkedList<E> implements List<E>{
      * @return - ListIterator
      */
     public ListIterator<E> listIterator(){ //O(1)
-        return (ListIterator<E>) iterator(-1);
+        return new DoublyLinkedListIterator(0);
     }
     /***
      * Method that returns a ListIterator that begins at the specified index of the List
-     * @param - index that the Iterator starts at
+     * @param - index of the element returned by the first call to next(), size() to start at the end
      * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
      */
-    public ListIterator<E> listIterator(int index){ //O(1) - best  O(n) - worst
-        return (ListIterator<E>) iterator(index - 1);
+    public ListIterator<E> listIterator(int index){ //O(1) near either end or the finger, O(n) - worst
+        checkPosition(index);
+        return new DoublyLinkedListIterator(index);
+    }
+    /***
+     * Method that returns a read-only ListIterator with no modification, bounds or state checks, for hot loops
+     * that are known not to run while the List changes
+     * @return - ListIterator beginning at the 0th index
+     */
+    public ListIterator<E> uncheckedListIterator(){ //O(1)
+        return new UncheckedDoublyLinkedListIterator(0);
+    }
+    /***
+     * Method that returns a read-only ListIterator with no modification, bounds or state checks, for hot loops
+     * that are known not to run while the List changes
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> uncheckedListIterator(int index){ //O(1) near either end or the finger, O(n) - worst
+        checkPosition(index);
+        return new UncheckedDoublyLinkedListIterator(index);
+    }
+    /***
+     * Method to check if a range of indices is valid
+     * @param from - first index of the range
+     * @param to - index after the last one of the range
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    private void checkRange(int from, int to){ //O(1)
+        if(from < 0 || to > size || from > to)
+            throw new ArrayIndexOutOfBoundsException("Range out of bounds. Must be within 0 and "+size);
+    }
+    /***
+     * Method to check if a cursor position is valid
+     * @param index - position being checked
+     * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size
+     */
+    private void checkPosition(int index){ //O(1)
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+    }
+    /***
+     * Method to return a Spliterator over the elements in order
+     * Splits by handing the first half of its remaining nodes to a new Spliterator, so every part knows its exact size
+     * @return - Spliterator
+     */
+    public Spliterator<E> spliterator() { //O(1)
+        return new DoublyLinkedListSpliterator(head, 0, size);
+    }
+
+    /***
+     * Method to return a view of the elements from one index up to another
+     * The view copies nothing: it walks this List's nodes, and changes made through the view show in the List.
+     * Any change to the List not made through the view makes the view throw ConcurrentModificationException.
+     * @param from - index of the first element in the view
+     * @param to - index after the last element in the view
+     * @return - SubList backed by this List
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    public SubList subList(int from, int to) { //O(1)
+        checkRange(from, to);
+        return new SubList(null, from, to - from);
+    }
+
+    /***
+     * Inner class for a view of a range of the List
+     * Indices are relative to the start of the range. Positions are found through the List's finger, so
+     * working near the last position used is a short walk.
+     */
+    public class SubList implements List<E> {
+        // view this one was taken from, null when it was taken from the List
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int expectedModCount = modCount;
+        /***
+         * Constructor with three arguments
+         * @param parent - view this one was taken from, null for the List
+         * @param offset - index in the List of the first element of the view
+         * @param size - number of elements in the view
+         */
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+        }
+        /***
+         * Method to add an item to the end of the view, which inserts it into the List
+         * @param item - item being added
+         * @return - true if added successfully
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public boolean add(E item) { //O(1) near either end or the finger, O(n) worst case
+            return add(size, item);
+        }
+        /***
+         * Method to add an item at the given index of the view
+         * @param index - index being added at
+         * @param item - item being added
+         * @return - true if added successfully
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size of the view
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public boolean add(int index, E item) { //O(1) near either end or the finger, O(n) worst case
+            checkPosition(index);
+            checkForComodification();
+            DoublyLinkedList.this.add(offset + index, item);
+            changed(1);
+            return true;
+        }
+        /***
+         * Method to return the object at the given index of the view
+         * @param index - index that the value is being returned from
+         * @return - object at index
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the view
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public E get(int index) { //O(1) near either end or the finger, O(n) worst case
+            checkIndex(index);
+            checkForComodification();
+            return node(offset + index).value;
+        }
+        /***
+         * Method to set the value of the object at the given index of the view
+         * @param index - index being set
+         * @param item - value being set
+         * @return - previous value of the object at the index
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the view
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public E set(int index, E item) { //O(1) near either end or the finger, O(n) worst case
+            checkIndex(index);
+            checkForComodification();
+            return DoublyLinkedList.this.set(offset + index, item);
+        }
+        /***
+         * Method to remove the object at the given index of the view from the List
+         * @param index - index the object is removed from
+         * @return - the item at the index
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the view
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public E remove(int index) { //O(1) near either end or the finger, O(n) worst case
+            checkIndex(index);
+            checkForComodification();
+            E item = DoublyLinkedList.this.remove(offset + index);
+            changed(-1);
+            return item;
+        }
+        /***
+         * Method to remove a range of the view from the List
+         * @param from - index in the view of the first element removed
+         * @param to - index in the view after the last element removed
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public void removeRange(int from, int to) { //O(min(to - from, n - to)) once the first node is found, O(n) worst case
+            checkRange(from, to);
+            checkForComodification();
+            DoublyLinkedList.this.removeRange(offset + from, offset + to);
+            changed(from - to);
+        }
+        /***
+         * Method to remove every element of the view from the List
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public void clear() { //O(min(size, n - offset - size)) once the first node is found, O(n) worst case
+            removeRange(0, size);
+        }
+        /***
+         * Method to return the size of the view
+         * @return - number of elements in the view
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public int size() { //O(1)
+            checkForComodification();
+            return size;
+        }
+        /***
+         * Method to check if the view is empty
+         * @return - if the size equals zero
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public boolean isEmpty() { //O(1)
+            return size() == 0;
+        }
+        /***
+         * Method to return a view of a range of this view, changes made through it show in this one
+         * @param from - index in this view of the first element
+         * @param to - index in this view after the last element
+         * @return - SubList backed by the same List
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public SubList subList(int from, int to) { //O(1)
+            checkRange(from, to);
+            checkForComodification();
+            return new SubList(this, offset + from, to - from);
+        }
+        /***
+         * Method that returns a ListIterator that begins at the 0th index of the view
+         * @return - ListIterator
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public ListIterator<E> listIterator() { //O(1) near either end or the finger, O(n) worst case
+            return listIterator(0);
+        }
+        /***
+         * Method that returns a ListIterator that begins at the specified index of the view
+         * @param index - index of the element returned by the first call to next(), size() to start at the end
+         * @return - ListIterator
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size of the view
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public ListIterator<E> listIterator(int index) { //O(1) near either end or the finger, O(n) worst case
+            checkPosition(index);
+            checkForComodification();
+            return new SubListIterator(DoublyLinkedList.this.listIterator(offset + index));
+        }
+        /***
+         * Method to return a Spliterator over the nodes of the view
+         * @return - Spliterator
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public Spliterator<E> spliterator() { //O(1) near either end or the finger, O(n) worst case
+            checkForComodification();
+            return new DoublyLinkedListSpliterator(size > 0 ? node(offset) : null, offset, size);
+        }
+        /***
+         * Method to return the String reppresentation of the view
+         * @return - String of the view
+         */
+        public String toString() { //O(n)
+            return ListWriter.toString(this);
+        }
+        /***
+         * Method to record a change of size made through this view in it and in every view it was taken from
+         * @param delta - number of elements added, negative when removed
+         */
+        private void changed(int delta) { //O(depth of views)
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += delta;
+                view.expectedModCount = modCount;
+            }
+        }
+        /***
+         * Method to check if an index of the view is valid
+         * @param index - index being checked
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the view
+         */
+        private void checkIndex(int index) { //O(1)
+            if (index < 0 || index >= size)
+                throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+        }
+        /***
+         * Method to check if a cursor position of the view is valid
+         * @param index - position being checked
+         * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size of the view
+         */
+        private void checkPosition(int index) { //O(1)
+            if (index < 0 || index > size)
+                throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+        }
+        /***
+         * Method to check if a range of the view is valid
+         * @param from - first index of the range
+         * @param to - index after the last one of the range
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         */
+        private void checkRange(int from, int to) { //O(1)
+            if (from < 0 || to > size || from > to)
+                throw new ArrayIndexOutOfBoundsException("Range out of bounds. Must be within 0 and "+size);
+        }
+        /***
+         * Method to check that the List was only changed through this view
+         * @throws ConcurrentModificationException if it was not
+         */
+        private void checkForComodification() { //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /***
+         * Inner class for a ListIterator over the view
+         * Wraps a fail-fast iterator of the List and stops it at the ends of the view
+         */
+        private class SubListIterator implements ListIterator<E> {
+            private final ListIterator<E> it;
+            /***
+             * Constructor with one argument
+             * @param it - iterator of the List positioned inside the view
+             */
+            SubListIterator(ListIterator<E> it) {
+                this.it = it;
+            }
+            /***
+             * Method to check if there is an element of the view after the cursor
+             * @return - true if the cursor is before the end of the view
+             */
+            public boolean hasNext() { //O(1)
+                return nextIndex() < size;
+            }
+            /***
+             * Method to return the next element
+             * @return - next element of type E in the view
+             * @throws NoSuchElementException if there is no next element
+             * @throws ConcurrentModificationException if the List was changed by something else
+             */
+            public E next() { //O(1)
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return it.next();
+            }
+            /***
+             * Method to check if there is an element of the view before the cursor
+             * @return - true if the cursor is after the start of the view
+             */
+            public boolean hasPrevious() { //O(1)
+                return nextIndex() > 0;
+            }
+            /***
+             * Method to return the previous element
+             * @return - previous element of type E in the view
+             * @throws NoSuchElementException if there is no previous element
+             * @throws ConcurrentModificationException if the List was changed by something else
+             */
+            public E previous() { //O(1)
+                if (!hasPrevious())
+                    throw new NoSuchElementException();
+                return it.previous();
+            }
+            /***
+             * Method to return the index in the view of the element next() would return
+             * @return - index
+             */
+            public int nextIndex() { //O(1)
+                return it.nextIndex() - offset;
+            }
+            /***
+             * Method to return the index in the view of the element previous() would return
+             * @return - index
+             */
+            public int previousIndex() { //O(1)
+                return it.previousIndex() - offset;
+            }
+            /***
+             * Method to replace the element last returned by next() or previous()
+             * @param value - new value
+             */
+            public void set(E value) { //O(1)
+                it.set(value);
+            }
+            /***
+             * Method to insert an element at the cursor, the view grows by one
+             * @param value - value being added
+             */
+            public void add(E value) { //O(1)
+                it.add(value);
+                changed(1);
+            }
+            /***
+             * Method to remove the element last returned by next() or previous(), the view shrinks by one
+             */
+            public void remove() { //O(1)
+                it.remove();
+                changed(-1);
+            }
+        }
+    }
+
+    /***
+     * Inner class for a Spliterator over a run of nodes
+     */
+    private class DoublyLinkedListSpliterator implements Spliterator<E> {
+        private Node current;
+        private int index;
+        private int remaining;
+        /***
+         * Constructor with three arguments
+         * @param current - first node of the run
+         * @param index - index of that node
+         * @param remaining - number of nodes in the run
+         */
+        DoublyLinkedListSpliterator(Node current, int index, int remaining) {
+            this.current = current;
+            this.index = index;
+            this.remaining = remaining;
+        }
+        /***
+         * Method to pass the next element to an action
+         * @param action - action being run
+         * @return - false if the run was already used up
+         */
+        public boolean tryAdvance(Consumer<? super E> action) { //O(1)
+            if (remaining <= 0)
+                return false;
+            E value = current.value;
+            current = current.next;
+            index++;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+        /***
+         * Method to pass every remaining element to an action
+         * @param action - action being run
+         */
+        public void forEachRemaining(Consumer<? super E> action) { //O(n)
+            Node node = current;
+            for (int i = remaining; i > 0; i--) {
+                action.accept(node.value);
+                node = node.next;
+            }
+            current = node;
+            index += remaining;
+            remaining = 0;
+        }
+        /***
+         * Method to hand the first half of the run to a new Spliterator
+         * Walks forward to the middle of the run
+         * @return - Spliterator for the first half, or null if there is fewer than two nodes left
+         */
+        public Spliterator<E> trySplit() { //O(n)
+            if (remaining < 2)
+                return null;
+            int half = remaining >>> 1;
+            Spliterator<E> prefix = new DoublyLinkedListSpliterator(current, index, half);
+            for (int i = 0; i < half; i++)
+                current = current.next;
+            index += half;
+            remaining -= half;
+            return prefix;
+        }
+        /***
+         * Method to return the number of elements left
+         * @return - exact count
+         */
+        public long estimateSize() { //O(1)
+            return remaining;
+        }
+        /***
+         * Method to return the characteristics of the Spliterator
+         * @return - ORDERED, SIZED and SUBSIZED
+         */
+        public int characteristics() { //O(1)
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 }
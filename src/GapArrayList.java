@@ -0,0 +1,370 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/***
+ * Class to model an ArrayList backed by a gap buffer that implements List
+ * The unused capacity is kept as a gap at the position of the last edit, so repeated adds and removes
+ * near the same index only move the elements between the old and the new edit position
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class GapArrayList<E> implements List<E> {
+    // data members
+    // elements[0..gapStart) and elements[gapEnd..elements.length) hold the list, the gap in between is empty
+    private E[] elements;
+    private int gapStart;
+    private int gapEnd;
+    private int size;
+    // Number of changes to the size or order, iterators compare it with the count they saw to fail fast
+    private int modCount;
+    // Constructors
+
+    /***
+     * Default Constructor with no parameters
+     * Makes an empty list with a gap of 10 elements and size equal to zero
+     */
+    public GapArrayList() { //O(1)
+        this(10);
+    }
+    /***
+     * Constructor with one argument, the capacity of the list
+     * @param capacity - capacity to be set
+     */
+    public GapArrayList(int capacity) { //O(1)
+        elements = (E[]) new Object[capacity];
+        gapStart = 0;
+        gapEnd = capacity;
+        size = 0;
+    }
+    // Adding an item to the list (2 methods)
+
+    /***
+     * Method to add an item to the end of the GapArrayList
+     * @param item - item being added
+     * @return - true if added successfully
+     */
+    public boolean add(E item) { //O(1) amortized when appending repeatedly
+        return add(size, item);
+    }
+    /***
+     * Method to add an item at the given index
+     * @param index - index being added at
+     * @param item - item being added
+     * @return - true if added successfully
+     */
+    public boolean add(int index, E item) { //O(1) amortized near the last edit, O(n) worst case
+        if(index > size || index < 0)
+            throw new ArrayIndexOutOfBoundsException();
+        ensureCapacity(); //O(n)
+        moveGap(index);
+        elements[gapStart++] = item;
+        size++;
+        modCount++;
+        return true;
+    }
+    // Getter and Setter
+
+    /***
+     * Method to return the object at the given index
+     * Reads never move the gap
+     * @param index - index that the value is being returned from
+     * @return - object at index
+     */
+    public E get(int index) { //O(1)
+        checkIndex(index); //O(1)
+        return elements[physical(index)];
+    }
+    /***
+     * Method to set the value of the object at the given index
+     * @param index - index being set
+     * @param item - value being set
+     * @return - previous value of the object at the index
+     */
+    public E set(int index, E item) { //O(1)
+        checkIndex(index); //O(1)
+        int i = physical(index);
+        E oldItem = elements[i];
+        elements[i] = item;
+        return oldItem;
+    }
+
+    /***
+     * Method to return the size of GapArrayList
+     * @return - size of the GapArrayList
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to clear a GapArrayList
+     * Sets the size equal to zero and makes the whole array the gap
+     */
+    public void clear() { //O(n)
+        Arrays.fill(elements, null);
+        gapStart = 0;
+        gapEnd = elements.length;
+        size = 0;
+        modCount++;
+    }
+
+    /***
+     * Method to check if the GapArrayList is empty
+     * @return - boolean representation of if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+
+    /***
+     * Method to remove the object at a specific index
+     * @param index - index the object is removed from
+     * @return - the item at the index
+     */
+    public E remove(int index) { //O(1) amortized near the last edit, O(n) worst case
+        checkIndex(index);
+        moveGap(index + 1);
+        E item = elements[--gapStart];
+        elements[gapStart] = null;
+        size--;
+        modCount++;
+        return item;
+    }
+
+    /***
+     * Method to return the array index of a list index, skipping over the gap
+     * @param index - list index
+     * @return - index into elements
+     */
+    private int physical(int index) { //O(1)
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /***
+     * Method to move the gap so it starts at the given list index
+     * Only the elements between the old and the new position are copied
+     * @param index - list index the gap should start at
+     */
+    private void moveGap(int index) { //O(|index - gapStart|)
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(elements, index, elements, gapEnd - count, count);
+            Arrays.fill(elements, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        }
+        else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(elements, gapEnd, elements, gapStart, count);
+            Arrays.fill(elements, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /***
+     * Method to grow the array if the gap is empty
+     * The new room is added to the gap, which stays where it was
+     */
+    private void ensureCapacity() { //O(N)
+        if(gapStart == gapEnd) {
+            int newCap = Math.max((int) (elements.length * 1.5), elements.length + 1);
+            E[] newElements = (E[]) new Object[newCap];
+            int tail = elements.length - gapEnd;
+            System.arraycopy(elements, 0, newElements, 0, gapStart);
+            System.arraycopy(elements, gapEnd, newElements, newCap - tail, tail);
+            gapEnd = newCap - tail;
+            elements = newElements;
+        }
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the GapArrayList
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to return the String reppresentation of the GapArrayList
+     * @return - String of the GapArrayList
+     */
+    public String toString() { //O(n)
+        StringBuilder output = new StringBuilder("[");
+        for(int i=0; i<size; i++) {
+            if (i > 0)
+                output.append(' ');
+            output.append(elements[physical(i)]);
+        }
+        return output.append(']').toString();
+    }
+
+    /***
+     * Method to return an Iterator object of type GapArrayListIterator
+     * @param - index of the element before the one the first call to next() returns, -1 to start at the beginning
+     * @return - Iterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than -1 or greater than or equal to the size
+     */
+    public Iterator<E> iterator(int index){
+        return listIterator(index + 1);
+    }
+
+    /***
+     * Inner class for an Iterator of type GapArrayListIterator
+     * The cursor sits between elements: next() returns the element at the cursor, previous() the one before it.
+     * Follows the same positions as ArrayList's iterator so the two can be swapped. Adds and removes go through
+     * the gap buffer, so the gap follows the cursor and a run of edits at one place stays cheap.
+     * Fail-fast: any change to the GapArrayList not made through this iterator makes its next call throw
+     * ConcurrentModificationException.
+     */
+    private class GapArrayListIterator implements ListIterator<E>{
+        private int cursor;
+        // index of the element returned by the last next() or previous(), -1 after add() or remove()
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+        /***
+         * Constructor with one parameter
+         * @param index - index of the element returned by the first call to next()
+         */
+        GapArrayListIterator(int index){
+            cursor = index;
+        }
+        /***
+         * Method to determine if there is an element after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < size;
+        }
+        /***
+         * Method to return the next element
+         * @return - the next element of type E in the GapArrayList
+         * @throws NoSuchElementException if there is no next element
+         * @throws ConcurrentModificationException if the GapArrayList was changed by something else
+         */
+        public E next() { //O(1)
+            checkForComodification();
+            int i = cursor;
+            if (i >= size)
+                throw new NoSuchElementException();
+            cursor = i + 1;
+            return elements[physical(lastReturned = i)];
+        }
+        /***
+         * Method to determine if there is an element before the cursor
+         * @return - true if the cursor is after the first element
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous element
+         * @return - the previous element of type E in the GapArrayList
+         * @throws NoSuchElementException if there is no previous element
+         * @throws ConcurrentModificationException if the GapArrayList was changed by something else
+         */
+        public E previous() { //O(1)
+            checkForComodification();
+            int i = cursor - 1;
+            if (i < 0)
+                throw new NoSuchElementException();
+            cursor = i;
+            return elements[physical(lastReturned = i)];
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index, the size at the end
+         */
+        public int nextIndex(){ //O(1)
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index, -1 at the beginning
+         */
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method to replace the element last returned by next() or previous()
+         * @param value - new value
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the GapArrayList was changed by something else
+         */
+        public void set(E value){ //O(1)
+            if (lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            GapArrayList.this.set(lastReturned, value);
+        }
+        /***
+         * Method to insert an element at the cursor, before the element next() would return
+         * @param value - value being added
+         * @throws ConcurrentModificationException if the GapArrayList was changed by something else
+         */
+        public void add(E value){ //O(1) amortized when the gap is already at the cursor
+            checkForComodification();
+            GapArrayList.this.add(cursor++, value);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to remove the element last returned by next() or previous()
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the GapArrayList was changed by something else
+         */
+        public void remove(){ //O(1) amortized when the gap is already at the cursor
+            if (lastReturned < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            GapArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to check that the GapArrayList was only changed through this iterator
+         * @throws ConcurrentModificationException if it was not
+         */
+        private void checkForComodification(){ //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the 0th index of the GapArrayList
+     * @return - ListIterator
+     */
+    public ListIterator<E> listIterator(){ //O(1)
+        return new GapArrayListIterator(0);
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the specified index of the GapArrayList
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> listIterator(int index){ //O(1)
+        checkPosition(index);
+        return new GapArrayListIterator(index);
+    }
+
+    /***
+     * Method to check if a cursor position is valid
+     * @param index - position being checked
+     * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size
+     */
+    private void checkPosition(int index){ //O(1)
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+    }
+}
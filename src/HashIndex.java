@@ -0,0 +1,198 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/***
+ * Class to model an open-addressing hash index from the elements of an array-backed list to their positions
+ * The table holds only int positions (position + 1, zero marks an empty slot) and probes linearly, so it costs
+ * 4 bytes per slot and keeps no references of its own: the hash and equality checks read the list's array.
+ * Every position of a duplicated element is in the table, indexOf() returns the smallest.
+ * The index can be marked stale, after which the list skips keeping it up to date and the next lookup
+ * rebuilds it in one pass.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+class HashIndex {
+    // Smallest table, a power of two
+    private static final int MIN_CAPACITY = 16;
+
+    // data members
+    private int[] table;
+    private int mask;
+    private int count;
+    private boolean stale;
+
+    /***
+     * Constructor with no arguments, makes a stale index that is built on the first lookup
+     */
+    HashIndex() { //O(1)
+        table = new int[MIN_CAPACITY];
+        mask = MIN_CAPACITY - 1;
+        stale = true;
+    }
+
+    /***
+     * Method to check if the index has to be rebuilt before it is used
+     * @return - true if the index is stale
+     */
+    boolean isStale() { //O(1)
+        return stale;
+    }
+
+    /***
+     * Method to mark the index stale, used after a change that would cost more to follow than to rebuild
+     */
+    void invalidate() { //O(1)
+        stale = true;
+    }
+
+    /***
+     * Method to rebuild the index from the first size elements of an array
+     * @param elements - array of the list
+     * @param size - number of elements in the list
+     */
+    void rebuild(Object[] elements, int size) { //O(n)
+        int capacity = capacityFor(size);
+        if (capacity != table.length)
+            table = new int[capacity];
+        else
+            Arrays.fill(table, 0);
+        mask = capacity - 1;
+        count = 0;
+        for (int i = 0; i < size; i++)
+            put(elements, i);
+        stale = false;
+    }
+
+    /***
+     * Method to make the index empty
+     */
+    void clear() { //O(capacity)
+        Arrays.fill(table, 0);
+        count = 0;
+        stale = false;
+    }
+
+    /***
+     * Method to add a position to the index, the element must already be at that position in the array
+     * @param elements - array of the list
+     * @param position - position being added
+     */
+    void add(Object[] elements, int position) { //O(1) expected
+        if (stale)
+            return;
+        if ((count + 1) * 4L > table.length * 3L) {
+            int[] old = table;
+            table = new int[old.length * 2];
+            mask = table.length - 1;
+            count = 0;
+            for (int entry : old)
+                if (entry != 0)
+                    put(elements, entry - 1);
+        }
+        put(elements, position);
+    }
+
+    /***
+     * Method to remove a position from the index, the element must still be at that position in the array
+     * Closes the hole by moving later entries of the probe run back, so no tombstones are left
+     * @param elements - array of the list
+     * @param position - position being removed
+     */
+    void remove(Object[] elements, int position) { //O(1) expected
+        if (stale)
+            return;
+        int slot = home(elements[position]);
+        while (table[slot] != position + 1)
+            slot = (slot + 1) & mask;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int want = home(elements[table[next] - 1]);
+            // the entry may move into the hole only if the hole lies between its home slot and where it is
+            if (((next - want) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = 0;
+        count--;
+    }
+
+    /***
+     * Method to move every position at or after from by delta, used when elements shift in the array
+     * The entries stay in their slots since the elements, and so their hashes, are the same
+     * @param from - first position that moves
+     * @param delta - distance the positions move, +1 after an insert and -1 after a remove
+     */
+    void shift(int from, int delta) { //O(capacity), a tight pass with no hashing
+        if (stale)
+            return;
+        int[] t = table;
+        // (from - entry) >> 31 is all ones exactly when entry > from; no branch, so the JIT can vectorize the loop
+        for (int i = 0; i < t.length; i++)
+            t[i] += delta & ((from - t[i]) >> 31);
+    }
+
+    /***
+     * Method to return the smallest position holding an element equal to o
+     * @param elements - array of the list
+     * @param size - number of elements in the list
+     * @param o - element being looked up, may be null
+     * @return - position, or -1 if no element is equal to o
+     */
+    int indexOf(Object[] elements, int size, Object o) { //O(1) expected, O(copies of o) with duplicates
+        if (stale)
+            rebuild(elements, size);
+        int best = -1;
+        for (int slot = home(o); table[slot] != 0; slot = (slot + 1) & mask) {
+            int position = table[slot] - 1;
+            if ((best < 0 || position < best) && Objects.equals(elements[position], o))
+                best = position;
+        }
+        return best;
+    }
+
+    /***
+     * Method to return the heap held by the index
+     * @return - bytes used by the table, assuming a 16 byte array header
+     */
+    long footprintBytes() { //O(1)
+        return 16L + (long) table.length * Integer.BYTES;
+    }
+
+    /***
+     * Method to put a position into the first free slot of its probe run, without growing the table
+     * @param elements - array of the list
+     * @param position - position being added
+     */
+    private void put(Object[] elements, int position) { //O(1) expected
+        int slot = home(elements[position]);
+        while (table[slot] != 0)
+            slot = (slot + 1) & mask;
+        table[slot] = position + 1;
+        count++;
+    }
+
+    /***
+     * Method to return the slot an element's probe run starts at
+     * @param o - element, may be null
+     * @return - slot
+     */
+    private int home(Object o) { //O(1)
+        int h = o == null ? 0 : o.hashCode();
+        // hashCode is often poor in its low bits, mix them with the high ones
+        return (h * 0x9E3779B9 >>> 16 ^ h * 0x9E3779B9) & mask;
+    }
+
+    /***
+     * Method to return the table size for a number of entries, a power of two that stays under 3/4 full
+     * @param entries - number of entries
+     * @return - table size
+     */
+    private static int capacityFor(int entries) { //O(1)
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3L < entries * 4L)
+            capacity <<= 1;
+        return capacity;
+    }
+}
@@ -0,0 +1,210 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/***
+ * Class to model an ArrayList of int values
+ * Works like ArrayList but stores the values in an int[], so no value is boxed into an Integer
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class IntArrayList {
+    // data members
+    private int[] elements;
+    private int size;
+    // Constructors
+
+    /***
+     * Default Constructor with no parameters
+     * Makes an empty list with room for 10 values and size equal to zero
+     */
+    public IntArrayList() { //O(1)
+        this(10);
+    }
+    /***
+     * Constructor with one argument, the capacity of the list
+     * @param capacity - capacity to be set
+     */
+    public IntArrayList(int capacity) { //O(1)
+        elements = new int[capacity];
+        size = 0;
+    }
+    // Adding a value to the list (2 methods)
+
+    /***
+     * Method to add a value to the end of the IntArrayList
+     * @param value - value being added
+     * @return - true if added successfully
+     */
+    public boolean add(int value) { //O(1) up to O(n)
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        return true;
+    }
+    /***
+     * Method to add a value at the given index
+     * @param index - index being added at
+     * @param value - value being added
+     * @return - true if added successfully
+     */
+    public boolean add(int index, int value) { //O(n)
+        if(index > size || index < 0)
+            throw new ArrayIndexOutOfBoundsException();
+        ensureCapacity(size + 1); //O(n)
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        return true;
+    }
+    // Getter and Setter
+
+    /***
+     * Method to return the value at the given index
+     * @param index - index that the value is being returned from
+     * @return - value at index
+     */
+    public int get(int index) { //O(1)
+        checkIndex(index); //O(1)
+        return elements[index];
+    }
+    /***
+     * Method to set the value at the given index
+     * @param index - index being set
+     * @param value - value being set
+     * @return - previous value at the index
+     */
+    public int set(int index, int value) { //O(1)
+        checkIndex(index); //O(1)
+        int oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    /***
+     * Method to return the size of IntArrayList
+     * @return - size of the IntArrayList
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to clear an IntArrayList
+     * Sets the size equal to zero
+     */
+    public void clear() { //O(1)
+        size = 0;
+    }
+
+    /***
+     * Method to check if the IntArrayList is empty
+     * @return - boolean representation of if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+
+    /***
+     * Method to remove the value at a specific index
+     * @param index - index the value is removed from
+     * @return - the value at the index
+     */
+    public int remove(int index) { //O(n)
+        checkIndex(index);
+        int value = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    /***
+     * Method to trim the capacity of the IntArrayList to its size
+     */
+    public void trimToSize() { //O(n)
+        if (size != elements.length)
+            elements = Arrays.copyOf(elements, size);
+    }
+
+    /***
+     * Method to grow the backing array so it can hold at least the given number of values
+     * @param minCapacity - number of values the IntArrayList must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) { //O(N)
+        if (minCapacity > elements.length)
+            elements = Arrays.copyOf(elements, Math.max((int) (elements.length * 1.5), minCapacity));
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the IntArrayList
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to return the String reppresentation of the IntArrayList
+     * @return - String of the IntArrayList
+     */
+    public String toString() { //O(n)
+        StringBuilder output = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                output.append(' ');
+            output.append(elements[i]);
+        }
+        return output.append(']').toString();
+    }
+
+    /***
+     * Method to return an iterator over the values from the first to the last
+     * @return - iterator whose nextInt() never boxes
+     */
+    public PrimitiveIterator.OfInt iterator() { //O(1)
+        return new IntArrayListIterator(false);
+    }
+
+    /***
+     * Method to return an iterator over the values from the last to the first
+     * @return - iterator whose nextInt() never boxes
+     */
+    public PrimitiveIterator.OfInt reverseIterator() { //O(1)
+        return new IntArrayListIterator(true);
+    }
+
+    /***
+     * Inner class for an iterator of type IntArrayListIterator
+     */
+    private class IntArrayListIterator implements PrimitiveIterator.OfInt {
+        private final boolean reverse;
+        private int cursor;
+        /***
+         * Constructor with one parameter
+         * @param reverse - true to go from the last value to the first
+         */
+        IntArrayListIterator(boolean reverse) {
+            this.reverse = reverse;
+            cursor = reverse ? size - 1 : 0;
+        }
+        /***
+         * Method to determine if there is another value
+         * @return - true if nextInt() has a value to return
+         */
+        public boolean hasNext() {
+            return reverse ? cursor >= 0 : cursor < size;
+        }
+        /***
+         * Method to return the next value
+         * @return - the next value in the IntArrayList
+         * @throws NoSuchElementException if there is no next value
+         */
+        public int nextInt() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return reverse ? elements[cursor--] : elements[cursor++];
+        }
+    }
+}
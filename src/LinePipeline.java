@@ -0,0 +1,184 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ListIterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/***
+ * Class to stream a line delimited file like countries.txt into a List in batches
+ * A reader thread parses the lines into batches and puts them on a bounded queue, the calling thread takes each
+ * batch off, appends it to the List and hands it to a downstream consumer (printing, indexing, export) right away.
+ * The first batch is out after batchSize lines whatever the size of the file, and when the consumer falls behind
+ * the full queue stops the reader, so at most depth + 2 batches are in flight at once.
+ * Lines end at "\n", "\r\n" or "\r" and are decoded as UTF-8. The Scanner in Test.readFromFile also ends lines at
+ * U+2028, U+2029 and U+0085 and decodes with the platform charset, so the two give the same lines only for files
+ * without those characters, read where the platform charset is UTF-8.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class LinePipeline {
+    // Default number of lines per batch
+    static final int BATCH = 1024;
+    // Default number of batches the queue holds before the reader waits
+    static final int DEPTH = 4;
+
+    /***
+     * Interface for a stage that is handed each batch as soon as it has been read
+     * @param <E> - Data type of the parsed lines
+     */
+    @FunctionalInterface
+    public interface BatchConsumer<E> {
+        /***
+         * Method to process one batch, batches arrive in file order on the thread that started the pipeline
+         * @param batch - parsed lines, a new ArrayList the consumer may keep
+         * @param firstLine - index of the batch's first line in the file
+         * @throws IOException if the stage fails, which stops the pipeline
+         */
+        void accept(ArrayList<E> batch, long firstLine) throws IOException;
+    }
+
+    /***
+     * Private constructor, this class only has static methods
+     */
+    private LinePipeline() {
+    }
+
+    /***
+     * Method to read from a file and add all of the lines to a List type, handing each batch on as it is added
+     * @param list - List being added to
+     * @param filename - file being read from
+     * @param downstream - stage run on each batch after it is added, null for none
+     * @throws IOException if the file cannot be read, downstream fails, or the calling thread is interrupted
+     */
+    public static void readFromFile(List<String> list, String filename, BatchConsumer<String> downstream) throws IOException {
+        readFromFile(list, filename, Function.identity(), BATCH, DEPTH, downstream);
+    }
+
+    /***
+     * Method to read from a file, parse every line and add the results to a List, handing each batch on as it is added
+     * @param <E> - Data type of the parsed lines
+     * @param list - List being added to
+     * @param filename - file being read from
+     * @param parser - function turning a line into an element, run on the reader thread
+     * @param batchSize - number of lines per batch
+     * @param depth - number of batches the queue holds before the reader waits
+     * @param downstream - stage run on each batch after it is added, null for none
+     * @throws IOException if the file cannot be read, downstream fails, or the calling thread is interrupted
+     * @throws IllegalArgumentException if batchSize or depth is less than one
+     */
+    public static <E> void readFromFile(List<E> list, String filename, Function<String, ? extends E> parser,
+            int batchSize, int depth, BatchConsumer<E> downstream) throws IOException {
+        LinePipeline.<E>forEachBatch(filename, parser, batchSize, depth, (batch, firstLine) -> {
+            append(list, batch);
+            if (downstream != null)
+                downstream.accept(batch, firstLine);
+        });
+    }
+
+    /***
+     * Method to read from a file and hand each batch of parsed lines to a consumer without keeping any of them
+     * The heap used stays bounded by depth + 2 batches however large the file is
+     * Anything the parser throws, Errors included, ends the stream and is rethrown on the calling thread
+     * @param <E> - Data type of the parsed lines
+     * @param filename - file being read from
+     * @param parser - function turning a line into an element, run on the reader thread
+     * @param batchSize - number of lines per batch
+     * @param depth - number of batches the queue holds before the reader waits
+     * @param consumer - stage run on each batch
+     * @throws IOException if the file cannot be read, the consumer fails, or the calling thread is interrupted
+     * @throws IllegalArgumentException if batchSize or depth is less than one
+     */
+    public static <E> void forEachBatch(String filename, Function<String, ? extends E> parser, int batchSize, int depth,
+            BatchConsumer<E> consumer) throws IOException {
+        if (batchSize < 1 || depth < 1)
+            throw new IllegalArgumentException("Batch size and depth must be at least 1");
+        // opened here so a missing file is reported before any thread starts
+        BufferedReader in = Files.newBufferedReader(Paths.get(filename), StandardCharsets.UTF_8);
+        BlockingQueue<ArrayList<E>> queue = new ArrayBlockingQueue<>(depth);
+        // put on the queue after the last batch, compared by identity
+        ArrayList<E> end = new ArrayList<>(0);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try (BufferedReader lines = in) {
+                ArrayList<E> batch = new ArrayList<>(batchSize);
+                for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                    batch.add(parser.apply(line));
+                    if (batch.size() == batchSize) {
+                        queue.put(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!batch.isEmpty())
+                    queue.put(batch);
+            }
+            catch (InterruptedException e) {
+                // the consumer stopped taking batches, nobody is waiting for the rest
+                return;
+            }
+            catch (Throwable e) {
+                // Errors from the parser too, the caller is always sent the end or it would wait forever
+                failure.set(e);
+            }
+            try {
+                queue.put(end);
+            }
+            catch (InterruptedException e) {
+                // the consumer stopped taking batches
+            }
+        }, "LinePipeline reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        boolean finished = false;
+        try {
+            long firstLine = 0;
+            for (ArrayList<E> batch = queue.take(); batch != end; batch = queue.take()) {
+                consumer.accept(batch, firstLine);
+                firstLine += batch.size();
+            }
+            finished = true;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        finally {
+            // wakes a reader waiting on a full queue, or closes the file under a reader still reading
+            if (!finished)
+                reader.interrupt();
+        }
+        Throwable e = failure.get();
+        if (e instanceof IOException)
+            throw (IOException) e;
+        if (e instanceof RuntimeException)
+            throw (RuntimeException) e;
+        if (e instanceof Error)
+            throw (Error) e;
+        if (e != null)
+            throw new IOException(e);
+    }
+
+    /***
+     * Method to add a batch to the end of a List
+     * An ArrayList takes the batch as one block, other lists get one add() per line
+     * @param <E> - Data type of the elements
+     * @param list - List being added to
+     * @param batch - elements being added
+     */
+    private static <E> void append(List<E> list, ArrayList<E> batch) { //O(batch)
+        if (list instanceof ArrayList) {
+            ((ArrayList<E>) list).addAll(batch);
+            return;
+        }
+        ListIterator<E> it = batch.uncheckedListIterator();
+        while (it.hasNext())
+            list.add(it.next());
+    }
+}
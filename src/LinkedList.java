@@ -1,17 +1,35 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /***
  * Class to model a Linked List
  * @author Marco Clark
  * Date Created: 3/31/2022
- * Date Last Modified: 4/16/2022
+ * Date Last Modified: 10/18/2026
  */
 public class LinkedList<E> implements List<E>{
     // Data members
     private Node head, tail;
     int size;
+    // Lazily built array of the nodes in order, used to step backward without a previous pointer in every node
+    // When spine is not null, spine[spineStart] to spine[spineEnd - 1] hold the nodes from head onward, all of them
+    // or a prefix: a change in the middle only cuts the spine back to the nodes before it, which are still in place
+    private Node[] spine;
+    private int spineStart, spineEnd;
+    // Number of changes to the size or order, iterators compare it with the count they saw to fail fast
+    private int modCount;
+    // Optional pool of removed nodes, linked through next, that new elements reuse instead of allocating
+    // The pool holds at most poolCapacity nodes, zero unless enableNodePool() was called
+    private Node free;
+    private int freeCount;
+    private int poolCapacity;
     /***
      * Inner class to model a Node
      */
@@ -42,7 +60,7 @@ public class LinkedList<E> implements List<E>{
      * @return - true if added
      */
     public boolean addFirst(E item) { //O(1)
-        Node newNode = new Node(item);
+        Node newNode = newNode(item);
         if(head == null) { 
             head = tail = newNode; 
         }
@@ -50,7 +68,14 @@ public class LinkedList<E> implements List<E>{
             newNode.next = head;
             head = newNode;
         }
+        if (spine != null) {
+            if (spineStart > 0)
+                spine[--spineStart] = newNode;
+            else
+                spine = null;
+        }
         size++; 
+        modCount++;
         return true;
     }
 
@@ -60,7 +85,7 @@ public class LinkedList<E> implements List<E>{
      * @return - true if added
      */
     public boolean addLast(E item) { //O(1)
-        Node newNode = new Node(item);
+        Node newNode = newNode(item);
         if(head == null) { 
             head = tail = newNode; 
         }
@@ -68,7 +93,13 @@ public class LinkedList<E> implements List<E>{
             tail.next = newNode; 
             tail = newNode; 
         }
+        if (spine != null && spineEnd - spineStart == size) {
+            if (spineEnd == spine.length)
+                growSpine();
+            spine[spineEnd++] = newNode;
+        }
         size++; 
+        modCount++;
         return true;
     }
     /***
@@ -108,54 +139,349 @@ public class LinkedList<E> implements List<E>{
     public boolean removeFirst() { //O(1)
         if (head == null) 
             throw new NoSuchElementException();
+        Node first = head;
         head = head.next;
         if(head == null) 
             tail=null;
+        recycle(first);
+        if (spine != null && spineEnd > spineStart)
+            spine[spineStart++] = null;
         size--; 
+        modCount++;
         return true;
     }
     /***
      * Method to remove the last item of the List
+     * The first call builds the spine, after that the new tail is read from it
      * @return - true if removed successfully
      * @throws NoSuchElementException - if the head is null
      */
-    public boolean removeLast() { //O(n)
+    public boolean removeLast() { //O(1) amortized, O(n) when the spine has to be built
         if (head == null) 
             throw new NoSuchElementException();
         if(size == 1) 
             return removeFirst();
-        Node current = head;
-        Node previous = null;
-        while(current.next != null) {
-            previous = current; 
-            current = current.next;
-        }
+        buildSpine();
+        spine[--spineEnd] = null;
+        Node previous = spine[spineEnd - 1];
         previous.next = null; 
+        recycle(tail);
         tail = previous;
         size--; 
+        modCount++;
         return true;
     }
+    /***
+     * Method to make a node for an item, taken from the node pool when it has one
+     * @param item - value of the node
+     * @return - node with no next node
+     */
+    private Node newNode(E item) { //O(1)
+        Node node = free;
+        if (node == null)
+            return new Node(item);
+        free = node.next;
+        freeCount--;
+        node.next = null;
+        node.value = item;
+        return node;
+    }
+    /***
+     * Method to let go of a node that was taken out of the chain
+     * Clears its value and link so it keeps nothing reachable, then keeps it in the node pool if there is room
+     * @param node - node no longer in the List
+     */
+    private void recycle(Node node) { //O(1)
+        node.value = null;
+        if (freeCount < poolCapacity) {
+            node.next = free;
+            free = node;
+            freeCount++;
+        }
+        else {
+            node.next = null;
+        }
+    }
+    /***
+     * Method to turn on the node pool, so nodes let go by removes and clear() are reused by later adds
+     * Under queue-like churn (addLast() then removeFirst()) the List then allocates nothing once the pool has
+     * warmed up. A node can come back holding another element, so an unchecked iterator or a Spliterator that
+     * outlives a change to the List may see elements out of place.
+     * @param capacity - most nodes kept in the pool, each costs about 24 bytes while it waits
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public void enableNodePool(int capacity) { //O(1), O(pooled nodes) when shrinking
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity must not be negative");
+        poolCapacity = capacity;
+        while (freeCount > capacity) {
+            free = free.next;
+            freeCount--;
+        }
+    }
+    /***
+     * Method to turn off the node pool and release the nodes it holds
+     */
+    public void disableNodePool() { //O(1)
+        poolCapacity = 0;
+        free = null;
+        freeCount = 0;
+    }
+    /***
+     * Method to return the number of nodes waiting in the node pool
+     * @return - pooled nodes, zero when the pool is off
+     */
+    public int pooledNodes() { //O(1)
+        return freeCount;
+    }
+    /***
+     * Method to return the node at the given index using the spine
+     * @param index - index of the node, between 0 and size - 1
+     * @return - node at index
+     */
+    private Node node(int index) { //O(1) amortized, O(n) when the spine has to be built
+        if (spine == null || spineStart + index >= spineEnd)
+            buildSpine();
+        return spine[spineStart + index];
+    }
+    /***
+     * Method to return the node at the given index without building the spine
+     * @param index - index of the node, between 0 and size - 1
+     * @return - node at index
+     */
+    private Node find(int index) { //O(1) with the spine built up to index, O(index) otherwise
+        int built = spine == null ? 0 : spineEnd - spineStart;
+        if (index < built)
+            return spine[spineStart + index];
+        Node node = built > 0 ? spine[spineEnd - 1] : head;
+        for (int i = Math.max(built - 1, 0); i < index; i++)
+            node = node.next;
+        return node;
+    }
+    /***
+     * Method to build the spine from the chain of nodes if it is not already built, or finish a prefix of it
+     */
+    private void buildSpine() { //O(nodes not in the spine), O(1) if fully built
+        Node node;
+        if (spine == null) {
+            spine = newSpine(Math.max(10, size + (size >> 1)));
+            spineStart = 0;
+            spineEnd = 0;
+            node = head;
+        }
+        else if (spineEnd - spineStart == size) {
+            return;
+        }
+        else {
+            node = spineEnd > spineStart ? spine[spineEnd - 1].next : head;
+        }
+        for (; node != null; node = node.next) {
+            if (spineEnd == spine.length)
+                growSpine();
+            spine[spineEnd++] = node;
+        }
+    }
+    /***
+     * Method to cut the spine back to the nodes before an index, after a change at that index
+     * @param index - index of the first node that moved, the nodes before it are unchanged
+     */
+    private void truncateSpine(int index) { //O(nodes cut)
+        if (spine != null && spineEnd - spineStart > index) {
+            Arrays.fill(spine, spineStart + index, spineEnd, null);
+            spineEnd = spineStart + index;
+        }
+    }
+    /***
+     * Method to make an empty spine array
+     * Node is an inner class of a generic class, so its array can only be created raw
+     * @param length - length of the array
+     * @return - array of nulls
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Node[] newSpine(int length) { //O(length)
+        return (Node[]) new LinkedList.Node[length];
+    }
+    /***
+     * Method to make room at the end of the spine, dropping the slots freed by removeFirst()
+     */
+    private void growSpine() { //O(n)
+        int length = spineEnd - spineStart;
+        Node[] newSpine = spine;
+        if (spineStart < spine.length / 2)
+            newSpine = newSpine(spine.length + (spine.length >> 1) + 1);
+        System.arraycopy(spine, spineStart, newSpine, 0, length);
+        if (newSpine == spine)
+            Arrays.fill(spine, length, spineEnd, null);
+        spine = newSpine;
+        spineStart = 0;
+        spineEnd = length;
+    }
+    /***
+     * Method to remove the elements from one index up to another
+     * Unlinks the whole run at once; a built spine is kept and closed up with one arraycopy
+     * @param from - index of the first element removed
+     * @param to - index after the last element removed
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    public void removeRange(int from, int to) { //O(to), O(n - from) with the spine built
+        checkRange(from, to);
+        int count = to - from;
+        if (count == 0)
+            return;
+        Node before = from > 0 ? find(from - 1) : null;
+        Node after = before == null ? head : before.next;
+        for (int i = 0; i < count; i++) {
+            Node node = after;
+            after = after.next;
+            recycle(node);
+        }
+        if (before == null)
+            head = after;
+        else
+            before.next = after;
+        if (after == null)
+            tail = before;
+        if (spine != null) {
+            int built = spineEnd - spineStart;
+            if (to > built) {
+                truncateSpine(from);
+            }
+            else if (from == 0) {
+                Arrays.fill(spine, spineStart, spineStart + count, null);
+                spineStart += count;
+            }
+            else {
+                System.arraycopy(spine, spineStart + to, spine, spineStart + from, built - to);
+                Arrays.fill(spine, spineEnd - count, spineEnd, null);
+                spineEnd -= count;
+            }
+        }
+        size -= count;
+        modCount++;
+    }
+    /***
+     * Method to move every node of another LinkedList to the end of this one
+     * Only the links at the seam change, so it takes the same time however long either List is
+     * @param other - LinkedList whose nodes are moved, left empty
+     * @throws IllegalArgumentException if other is this List
+     */
+    public void concat(LinkedList<E> other) { //O(1)
+        splice(size, other);
+    }
+    /***
+     * Method to move every node of another LinkedList into this one, in front of the given index
+     * Only the links at the two seams change; the spine of this List is cut back to the nodes before the index
+     * @param index - index the first moved node ends up at, size() to append
+     * @param other - LinkedList whose nodes are moved, left empty
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     * @throws IllegalArgumentException if other is this List
+     */
+    public void splice(int index, LinkedList<E> other) { //O(1) at either end or with the spine built, O(index) otherwise
+        checkPosition(index);
+        if (other == this)
+            throw new IllegalArgumentException("Cannot splice a List into itself");
+        if (other.size == 0)
+            return;
+        if (index == 0) {
+            other.tail.next = head;
+            head = other.head;
+            if (tail == null)
+                tail = other.tail;
+        }
+        else {
+            Node before = index == size ? tail : find(index - 1);
+            other.tail.next = before.next;
+            before.next = other.head;
+            if (before == tail)
+                tail = other.tail;
+        }
+        truncateSpine(index);
+        size += other.size;
+        modCount++;
+        other.head = other.tail = null;
+        other.spine = null;
+        other.size = 0;
+        other.modCount++;
+    }
+    /***
+     * Method to sort the List, keeping equal elements in their order
+     * A bottom-up merge sort that relinks the nodes in place: runs of 1, 2, 4, ... nodes are merged pairwise
+     * until a single run is left, so nothing is allocated and no value is moved to another node
+     * @param c - Comparator, null to sort Comparable elements in their natural order
+     */
+    public void sort(Comparator<? super E> c) { //O(n log n)
+        if (size < 2)
+            return;
+        Comparator<? super E> order = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        Node list = head;
+        Node last = null;
+        for (int run = 1; ; run <<= 1) {
+            Node p = list;
+            list = null;
+            last = null;
+            int merges = 0;
+            while (p != null) {
+                merges++;
+                // q starts the second run of the pair, up to run nodes after p
+                Node q = p;
+                int pSize = 0;
+                while (pSize < run && q != null) {
+                    q = q.next;
+                    pSize++;
+                }
+                int qSize = run;
+                while (pSize > 0 || (qSize > 0 && q != null)) {
+                    Node next;
+                    if (pSize > 0 && (qSize == 0 || q == null || order.compare(q.value, p.value) >= 0)) {
+                        next = p;
+                        p = p.next;
+                        pSize--;
+                    }
+                    else {
+                        next = q;
+                        q = q.next;
+                        qSize--;
+                    }
+                    if (last == null)
+                        list = next;
+                    else
+                        last.next = next;
+                    last = next;
+                }
+                p = q;
+            }
+            last.next = null;
+            if (merges <= 1)
+                break;
+        }
+        head = list;
+        tail = last;
+        spine = null;
+        modCount++;
+    }
     /***
      * Method to return the String reppresentation of the List
      * @return - String of the List
      */
     public String toString() { //O(n)
-        String output = "[";
-        Node node = head;
-        while(node != null) {
-            output += node.value + " ";
-            node = node.next;
-        }
-        output += "]";
-        return output;
+        return ListWriter.toString(this);
     }
     /***
      * Method to make the Linked list empty
      * Sets size equal to zero, head and tail equal to null
+     * With the node pool on, nodes are moved to the pool until it is full, the rest are left to the collector
      */
-    public void clear() { //O(1)
+    public void clear() { //O(1), O(nodes pooled) with the node pool on
+        Node node = head;
+        while (node != null && freeCount < poolCapacity) {
+            Node next = node.next;
+            recycle(node);
+            node = next;
+        }
         head = tail = null; 
+        spine = null;
         size = 0;
+        modCount++;
     }
     /***
      * Method to check if the List is empty
@@ -171,112 +497,308 @@ public class LinkedList<E> implements List<E>{
     public int size() { //O(1)
         return size; 
     }
+    /***
+     * Method to check if the List holds an object
+     * @param o - object being looked for, may be null
+     * @return - true if an element equals o
+     */
+    public boolean contains(Object o) { //O(n)
+        return indexOf(o) >= 0;
+    }
+    /***
+     * Method to return the index of the first element equal to an object
+     * @param o - object being looked for, may be null
+     * @return - index, or -1 if no element equals o
+     */
+    public int indexOf(Object o) { //O(n)
+        int index = 0;
+        for (Node node = head; node != null; node = node.next, index++)
+            if (Objects.equals(node.value, o))
+                return index;
+        return -1;
+    }
 
     /***
-     * Method to return a LinkedListIterator that starts iterating at the specified index
-     * @param index - index the list starts at
+     * Method to return a LinkedListIterator whose first next() returns the element after the specified index
+     * @param index - index of the element before the one the first call to next() returns, -1 to start at the head
      * @return - Iterator object
+     * @throws ArrayIndexOutOfBoundsException if the index is less than -1 or greater than or equal to the size
      */
-    public Iterator<E> iterator(int index){ //O(1)
-        return new LinkedListIterator(index);
+    public Iterator<E> iterator(int index){ //O(n) worst case O(1) best case
+        return listIterator(index + 1);
     }
     /***
-     * Inner class for a DoublyLinkedListIterator
+     * Inner class for a LinkedListIterator
+     * The cursor sits between nodes: next() returns the value of the node after it, previous() the one before it.
+     * The iterator keeps the node on each side of the cursor; stepping back reads the node before through the spine.
+     * Fail-fast: any change to the List not made through this iterator makes its next call throw
+     * ConcurrentModificationException.
      */
     private class LinkedListIterator implements ListIterator<E>{
-        private Node current = head;
+        // nodes on either side of the cursor, null past the tail or before the head
+        private Node next;
+        private Node before;
+        // node returned by the last next() or previous() and the node in front of it, lastReturned is null after add() or remove()
+        private Node lastReturned;
+        private Node beforeLast;
+        private int cursor;
+        private int expectedModCount = modCount;
         /***
          * Constructor with one argument
-         * @param index - index the Iterator starts iterating at
-         * @throws ArrayIndexOutOfBoundsException if the index is less than -1 or greater than the size of the List
+         * @param index - index of the element returned by the first call to next(), between 0 and size
          */
-        public LinkedListIterator(int index){ //O(1) best case, O(n) worst case
-            if (index == (size-1)){
-                current = tail;
-            }
-            else if (index < -1 || index > size){
-                throw new ArrayIndexOutOfBoundsException();
+        public LinkedListIterator(int index){ //O(1) at either end or with the spine built, O(n) worst case
+            cursor = index;
+            if (index == size) {
+                before = tail;
             }
-            //If the index isn't for the head or tail, then use the next() method so the iterator will begin at index when used
-            else if (index != -1){ //O(n)
-                for (int i = -1; i < index; i++){
-                    next();
-                }  
+            else if (index > 0) {
+                if (spine != null) {
+                    before = node(index - 1);
+                }
+                else {
+                    before = head;
+                    for (int i = 1; i < index; i++)
+                        before = before.next;
+                }
+                next = before.next;
             }
-            else if (index == -1){
-                //Do nothing
+            else {
+                next = head;
             }
         }
         /***
-         * Method to check if the Iterator has a non-null object after current
-         * @return - true if the current object is not null
+         * Method to check if there is an element after the cursor
+         * @return - true if the cursor is before the end
          */
         public boolean hasNext() { //O(1)
-            return (current != null);
+            return cursor < size;
         }
         /***
          * Method to return the next element of the Iterator
          * @return - next element of type E in the list
-         * @throws NoSuchElementException if current is null
+         * @throws NoSuchElementException if there is no next element
+         * @throws ConcurrentModificationException if the List was changed by something else
          */
         public E next() { //O(1)
-            E temp = current.value;
-            current = current.next; 
-            return temp;
+            checkForComodification();
+            if (next == null)
+                throw new NoSuchElementException();
+            beforeLast = before;
+            lastReturned = before = next;
+            next = next.next;
+            cursor++;
+            return lastReturned.value;
         }
         /***
-         * Method to check if the Iterator has a previous element
-         * @return - true if the current element is not null
+         * Method to check if there is an element before the cursor
+         * @return - true if the cursor is after the head
          */
         public boolean hasPrevious() { //O(1)
-            return !(current == null);
+            return cursor > 0;
         }
         /***
-         * Method to retrun the previous elemenet of the Iterator
+         * Method to return the previous element of the Iterator
          * @return - previous element of type E in the List
-         * Does NOT throw an excpetion due to issues when printing the head
-         */
-        public E previous() { //O(n)
-            Node c = head;
-            Node prev = null;
-            while (c != current){
-                prev = c;
-                c = c.next;
+         * @throws NoSuchElementException if there is no previous element
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public E previous() { //O(1) amortized, the first call builds the spine in O(n)
+            checkForComodification();
+            if (before == null)
+                throw new NoSuchElementException();
+            lastReturned = next = before;
+            cursor--;
+            before = beforeLast = cursor > 0 ? node(cursor - 1) : null;
+            return lastReturned.value;
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index, the size at the end
+         */
+        public int nextIndex(){ //O(1)
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index, -1 at the head
+         */
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method to replace the value last returned by next() or previous()
+         * @param value - new value
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void set(E value){ //O(1)
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+            lastReturned.value = value;
+        }
+        /***
+         * Method to insert a value at the cursor, before the element next() would return
+         * Cuts the spine back to the nodes before the cursor, which previous() still reads in O(1)
+         * @param value - value being added
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void add(E value){ //O(1) amortized
+            checkForComodification();
+            if (before == null) {
+                addFirst(value);
+                before = head;
             }
-            current = prev;
-            return c.value;
+            else if (next == null) {
+                addLast(value);
+                before = tail;
+            }
+            else {
+                Node newNode = newNode(value);
+                newNode.next = next;
+                before.next = newNode;
+                before = newNode;
+                truncateSpine(cursor);
+                size++;
+                modCount++;
+            }
+            cursor++;
+            lastReturned = null;
+            expectedModCount = modCount;
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method to remove the node last returned by next() or previous()
+         * Cuts the spine back to the nodes before the removed one, which previous() still reads in O(1)
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the List was changed by something else
          */
-        public int nextIndex(){
-            throw new UnsupportedOperationException();
+        public void remove(){ //O(1) amortized
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+            Node after = lastReturned.next;
+            if (beforeLast == null) {
+                removeFirst();
+            }
+            else {
+                beforeLast.next = after;
+                if (lastReturned == tail)
+                    tail = beforeLast;
+                recycle(lastReturned);
+                truncateSpine(next == lastReturned ? cursor : cursor - 1);
+                size--;
+                modCount++;
+            }
+            if (next == lastReturned) {
+                // returned by previous(), the cursor stays where it is
+                next = after;
+            }
+            else {
+                before = beforeLast;
+                cursor--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method to check that the List was only changed through this iterator
+         * @throws ConcurrentModificationException if it was not
          */
-        public int previousIndex(){
-            throw new UnsupportedOperationException();
+        private void checkForComodification(){ //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+    /***
+     * Inner class for a read-only ListIterator with no checks
+     * next() only follows a link and previous() reads the spine, nothing is checked: changing the List during the
+     * loop, or calling next() when hasNext() is false, gives unspecified results instead of an exception
+     */
+    private class UncheckedLinkedListIterator implements ListIterator<E>{
+        private Node next;
+        private int cursor;
+        /***
+         * Constructor with one argument
+         * @param index - index of the element returned by the first call to next(), between 0 and size
+         */
+        UncheckedLinkedListIterator(int index){ //O(1) at the head or with the spine built, O(n) worst case
+            cursor = index;
+            if (index == size) {
+                next = null;
+            }
+            else if (spine != null) {
+                next = node(index);
+            }
+            else {
+                next = head;
+                for (int i = 0; i < index; i++)
+                    next = next.next;
+            }
+        }
+        /***
+         * Method to check if there is an element after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return next != null;
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method to return the next element, hasNext() must be true
+         * @return - next element of type E in the list
+         */
+        public E next() { //O(1)
+            Node node = next;
+            next = node.next;
+            cursor++;
+            return node.value;
+        }
+        /***
+         * Method to check if there is an element before the cursor
+         * @return - true if the cursor is after the head
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous element, hasPrevious() must be true
+         * @return - previous element of type E in the List
+         */
+        public E previous() { //O(1) amortized, the first call builds the spine in O(n)
+            next = node(--cursor);
+            return next.value;
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index
+         */
+        public int nextIndex(){ //O(1)
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index
+         */
+        public int previousIndex(){ //O(1)
+            return cursor - 1;
+        }
+        /***
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void set(E value){
             throw new UnsupportedOperationException();
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void add(E value){
             throw new UnsupportedOperationException();
         }
         /***
-         * Method is not used in this project
-         * @throws UnsupportedOperationException - this operation cannot be called in the test class
+         * Method that is not supported, the iterator is read-only
+         * @throws UnsupportedOperationException - always
          */
         public void remove(){
             throw new UnsupportedOperationException();
@@ -287,14 +809,406 @@ public class LinkedList<E> implements List<E>{
      * @return - ListIterator
      */
     public ListIterator<E> listIterator(){ //O(1)
-        return (ListIterator<E>) iterator(-1);
+        return new LinkedListIterator(0);
     }
     /***
      * Method that returns a ListIterator that begins at the specified index of the List
-     * @param - index that the Iterator starts at
+     * @param - index of the element returned by the first call to next(), size() to start at the end
      * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
      */
     public ListIterator<E> listIterator(int index){ //O(n) worst case O(1) best case
-        return (ListIterator<E>) iterator(index -1);
+        checkPosition(index);
+        return new LinkedListIterator(index);
+    }
+    /***
+     * Method that returns a read-only ListIterator with no modification, bounds or state checks, for hot loops
+     * that are known not to run while the List changes
+     * @return - ListIterator beginning at the 0th index
+     */
+    public ListIterator<E> uncheckedListIterator(){ //O(1)
+        return new UncheckedLinkedListIterator(0);
+    }
+    /***
+     * Method that returns a read-only ListIterator with no modification, bounds or state checks, for hot loops
+     * that are known not to run while the List changes
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> uncheckedListIterator(int index){ //O(n) worst case O(1) best case
+        checkPosition(index);
+        return new UncheckedLinkedListIterator(index);
+    }
+    /***
+     * Method to check if a range of indices is valid
+     * @param from - first index of the range
+     * @param to - index after the last one of the range
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    private void checkRange(int from, int to){ //O(1)
+        if(from < 0 || to > size || from > to)
+            throw new ArrayIndexOutOfBoundsException("Range out of bounds. Must be within 0 and "+size);
+    }
+    /***
+     * Method to check if a cursor position is valid
+     * @param index - position being checked
+     * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size
+     */
+    private void checkPosition(int index){ //O(1)
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+    }
+    /***
+     * Method to return a Spliterator over the elements in order
+     * Splits by handing the first half of its remaining nodes to a new Spliterator, so every part knows its exact size
+     * @return - Spliterator
+     */
+    public Spliterator<E> spliterator() { //O(1)
+        return new LinkedListSpliterator(head, 0, size);
+    }
+
+    /***
+     * Method to return a view of the elements from one index up to another
+     * The view copies nothing: it walks this List's nodes, and changes made through the view show in the List.
+     * Any change to the List not made through the view makes the view throw ConcurrentModificationException.
+     * @param from - index of the first element in the view
+     * @param to - index after the last element in the view
+     * @return - SubList backed by this List
+     * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size or from is greater than to
+     */
+    public SubList subList(int from, int to) { //O(1)
+        checkRange(from, to);
+        return new SubList(null, from, to - from);
+    }
+
+    /***
+     * Inner class for a view of a range of the List
+     * Indices are relative to the start of the range. Reaching the start of the range walks from the head,
+     * or reads the spine when it is built; stepping through the range follows links.
+     */
+    public class SubList implements List<E> {
+        // view this one was taken from, null when it was taken from the List
+        private final SubList parent;
+        private final int offset;
+        private int size;
+        private int expectedModCount = modCount;
+        /***
+         * Constructor with three arguments
+         * @param parent - view this one was taken from, null for the List
+         * @param offset - index in the List of the first element of the view
+         * @param size - number of elements in the view
+         */
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+        }
+        /***
+         * Method to add an item to the end of the view, which inserts it into the List
+         * @param item - item being added
+         * @return - true if added successfully
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public boolean add(E item) { //O(n) worst case, O(1) at the end of the List
+            checkForComodification();
+            LinkedList.this.listIterator(offset + size).add(item);
+            changed(1);
+            return true;
+        }
+        /***
+         * Method to remove a range of the view from the List
+         * @param from - index in the view of the first element removed
+         * @param to - index in the view after the last element removed
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public void removeRange(int from, int to) { //O(offset + to)
+            checkRange(from, to);
+            checkForComodification();
+            LinkedList.this.removeRange(offset + from, offset + to);
+            changed(from - to);
+        }
+        /***
+         * Method to remove every element of the view from the List
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public void clear() { //O(offset + n)
+            removeRange(0, size);
+        }
+        /***
+         * Method to return the size of the view
+         * @return - number of elements in the view
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public int size() { //O(1)
+            checkForComodification();
+            return size;
+        }
+        /***
+         * Method to check if the view is empty
+         * @return - if the size equals zero
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public boolean isEmpty() { //O(1)
+            return size() == 0;
+        }
+        /***
+         * Method to return a view of a range of this view, changes made through it show in this one
+         * @param from - index in this view of the first element
+         * @param to - index in this view after the last element
+         * @return - SubList backed by the same List
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public SubList subList(int from, int to) { //O(1)
+            checkRange(from, to);
+            checkForComodification();
+            return new SubList(this, offset + from, to - from);
+        }
+        /***
+         * Method that returns a ListIterator that begins at the 0th index of the view
+         * @return - ListIterator
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public ListIterator<E> listIterator() { //O(offset)
+            return listIterator(0);
+        }
+        /***
+         * Method that returns a ListIterator that begins at the specified index of the view
+         * @param index - index of the element returned by the first call to next(), size() to start at the end
+         * @return - ListIterator
+         * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size of the view
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public ListIterator<E> listIterator(int index) { //O(offset + index), O(1) with the spine built
+            checkPosition(index);
+            checkForComodification();
+            return new SubListIterator(LinkedList.this.listIterator(offset + index));
+        }
+        /***
+         * Method to return a Spliterator over the nodes of the view
+         * @return - Spliterator
+         * @throws ConcurrentModificationException if the List was changed outside the view
+         */
+        public Spliterator<E> spliterator() { //O(offset), O(1) with the spine built
+            checkForComodification();
+            return new LinkedListSpliterator(size > 0 ? find(offset) : null, offset, size);
+        }
+        /***
+         * Method to return the String reppresentation of the view
+         * @return - String of the view
+         */
+        public String toString() { //O(n)
+            return ListWriter.toString(this);
+        }
+        /***
+         * Method to record a change of size made through this view in it and in every view it was taken from
+         * @param delta - number of elements added, negative when removed
+         */
+        private void changed(int delta) { //O(depth of views)
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += delta;
+                view.expectedModCount = modCount;
+            }
+        }
+        /***
+         * Method to check if a cursor position of the view is valid
+         * @param index - position being checked
+         * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size of the view
+         */
+        private void checkPosition(int index) { //O(1)
+            if (index < 0 || index > size)
+                throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+        }
+        /***
+         * Method to check if a range of the view is valid
+         * @param from - first index of the range
+         * @param to - index after the last one of the range
+         * @throws ArrayIndexOutOfBoundsException if from is less than zero, to is greater than the size of the view or from is greater than to
+         */
+        private void checkRange(int from, int to) { //O(1)
+            if (from < 0 || to > size || from > to)
+                throw new ArrayIndexOutOfBoundsException("Range out of bounds. Must be within 0 and "+size);
+        }
+        /***
+         * Method to check that the List was only changed through this view
+         * @throws ConcurrentModificationException if it was not
+         */
+        private void checkForComodification() { //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        /***
+         * Inner class for a ListIterator over the view
+         * Wraps a fail-fast iterator of the List and stops it at the ends of the view
+         */
+        private class SubListIterator implements ListIterator<E> {
+            private final ListIterator<E> it;
+            /***
+             * Constructor with one argument
+             * @param it - iterator of the List positioned inside the view
+             */
+            SubListIterator(ListIterator<E> it) {
+                this.it = it;
+            }
+            /***
+             * Method to check if there is an element of the view after the cursor
+             * @return - true if the cursor is before the end of the view
+             */
+            public boolean hasNext() { //O(1)
+                return nextIndex() < size;
+            }
+            /***
+             * Method to return the next element
+             * @return - next element of type E in the view
+             * @throws NoSuchElementException if there is no next element
+             * @throws ConcurrentModificationException if the List was changed by something else
+             */
+            public E next() { //O(1)
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return it.next();
+            }
+            /***
+             * Method to check if there is an element of the view before the cursor
+             * @return - true if the cursor is after the start of the view
+             */
+            public boolean hasPrevious() { //O(1)
+                return nextIndex() > 0;
+            }
+            /***
+             * Method to return the previous element
+             * @return - previous element of type E in the view
+             * @throws NoSuchElementException if there is no previous element
+             * @throws ConcurrentModificationException if the List was changed by something else
+             */
+            public E previous() { //O(1) amortized, the first call builds the spine in O(n)
+                if (!hasPrevious())
+                    throw new NoSuchElementException();
+                return it.previous();
+            }
+            /***
+             * Method to return the index in the view of the element next() would return
+             * @return - index
+             */
+            public int nextIndex() { //O(1)
+                return it.nextIndex() - offset;
+            }
+            /***
+             * Method to return the index in the view of the element previous() would return
+             * @return - index
+             */
+            public int previousIndex() { //O(1)
+                return it.previousIndex() - offset;
+            }
+            /***
+             * Method to replace the element last returned by next() or previous()
+             * @param value - new value
+             */
+            public void set(E value) { //O(1)
+                it.set(value);
+            }
+            /***
+             * Method to insert an element at the cursor, the view grows by one
+             * @param value - value being added
+             */
+            public void add(E value) { //O(1)
+                it.add(value);
+                changed(1);
+            }
+            /***
+             * Method to remove the element last returned by next() or previous(), the view shrinks by one
+             */
+            public void remove() { //O(1)
+                it.remove();
+                changed(-1);
+            }
+        }
+    }
+
+    /***
+     * Inner class for a Spliterator over a run of nodes
+     */
+    private class LinkedListSpliterator implements Spliterator<E> {
+        private Node current;
+        private int index;
+        private int remaining;
+        /***
+         * Constructor with three arguments
+         * @param current - first node of the run
+         * @param index - index of that node
+         * @param remaining - number of nodes in the run
+         */
+        LinkedListSpliterator(Node current, int index, int remaining) {
+            this.current = current;
+            this.index = index;
+            this.remaining = remaining;
+        }
+        /***
+         * Method to pass the next element to an action
+         * @param action - action being run
+         * @return - false if the run was already used up
+         */
+        public boolean tryAdvance(Consumer<? super E> action) { //O(1)
+            if (remaining <= 0)
+                return false;
+            E value = current.value;
+            current = current.next;
+            index++;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+        /***
+         * Method to pass every remaining element to an action
+         * @param action - action being run
+         */
+        public void forEachRemaining(Consumer<? super E> action) { //O(n)
+            Node node = current;
+            for (int i = remaining; i > 0; i--) {
+                action.accept(node.value);
+                node = node.next;
+            }
+            current = node;
+            index += remaining;
+            remaining = 0;
+        }
+        /***
+         * Method to hand the first half of the run to a new Spliterator
+         * Jumps to the middle through the spine when it is built, otherwise walks there
+         * @return - Spliterator for the first half, or null if there is fewer than two nodes left
+         */
+        public Spliterator<E> trySplit() { //O(1) with the spine built, O(n) otherwise
+            if (remaining < 2)
+                return null;
+            int half = remaining >>> 1;
+            Spliterator<E> prefix = new LinkedListSpliterator(current, index, half);
+            if (spine != null && index + half < spineEnd - spineStart) {
+                current = spine[spineStart + index + half];
+            }
+            else {
+                for (int i = 0; i < half; i++)
+                    current = current.next;
+            }
+            index += half;
+            remaining -= half;
+            return prefix;
+        }
+        /***
+         * Method to return the number of elements left
+         * @return - exact count
+         */
+        public long estimateSize() { //O(1)
+            return remaining;
+        }
+        /***
+         * Method to return the characteristics of the Spliterator
+         * @return - ORDERED, SIZED and SUBSIZED
+         */
+        public int characteristics() { //O(1)
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 }
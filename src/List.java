@@ -1,9 +1,13 @@
 import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 /***
  * Class to model a List data structure
  * @author Marco Clark
  * Date Created: 3/31/2022
- * Date Last Modified: 4/01/2022
+ * Date Last Modified: 10/18/2026
  */
 public interface List<E> {
     /***
@@ -28,4 +32,27 @@ public interface List<E> {
      * @return
      */
     public abstract ListIterator<E> listIterator(int index);
+    /***
+     * Method to return a Spliterator over the elements in order
+     * This one reads through listIterator() and splits by copying batches into arrays, lists that can split
+     * by index or by node ranges override it
+     * @return - Spliterator that knows its exact size
+     */
+    public default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(listIterator(), size(), Spliterator.ORDERED);
+    }
+    /***
+     * Method to return a sequential Stream over the elements in order
+     * @return - Stream
+     */
+    public default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    /***
+     * Method to return a Stream over the elements that may run on several threads
+     * @return - parallel Stream
+     */
+    public default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
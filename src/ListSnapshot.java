@@ -0,0 +1,422 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.HashMap;
+import java.util.ListIterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+
+/***
+ * Class to write a List of Strings to a binary snapshot file and load it back without parsing text
+ * A snapshot is a 32 byte header followed by a string table and, with dictionary dedup, one code per element:
+ *   0  int   MAGIC
+ *   4  short VERSION
+ *   6  byte  flags, DICTIONARY when the elements are codes into the table
+ *   7  byte  bytes per code, 1, 2 or 4 with a dictionary and 0 without one
+ *   8  int   number of elements
+ *   12 int   number of Strings in the table
+ *   16 long  bytes in the table
+ *   24 int   CRC32C of everything after the header
+ *   28 int   reserved, 0
+ * Each table entry is a varint holding the UTF-8 length plus one, 0 for null, followed by the UTF-8 bytes.
+ * Without a dictionary the table holds the elements in order, with one it holds each distinct String once in the
+ * order it first appears. Numbers are little-endian. The whole file is mapped at once, so it must be under 2 GB.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ListSnapshot {
+    // "CLLS" in the first four bytes of the file
+    static final int MAGIC = 0x534C4C43;
+    static final short VERSION = 1;
+    static final int HEADER = 32;
+    static final byte DICTIONARY = 1;
+    // Offsets of the header fields
+    static final int FLAGS = 6, CODE_BYTES = 7, COUNT = 8, TABLE_COUNT = 12, TABLE_BYTES = 16, CHECKSUM = 24;
+    // Size of the buffer the writer fills before each write to the file
+    private static final int BLOCK = 1 << 16;
+
+    /***
+     * Private constructor, this class only has static methods
+     */
+    private ListSnapshot() {
+    }
+
+    /***
+     * Method to write every element of a List to a snapshot file, replacing the file if it exists
+     * The snapshot is written to a temp file in the same directory and moved over the file only once it is
+     * complete, so a failed write leaves the previous snapshot as it was. The new file gets the permissions of the
+     * one it replaces, or the default permissions when there is none, as if it had been written in place.
+     * @param list - List of Strings being written, may hold nulls
+     * @param filename - file being written to
+     * @param dictionary - true to write each distinct String once and a code per element, which pays off when
+     *                     the List repeats its Strings
+     * @throws IOException if the file cannot be written or the snapshot would be 2 GB or larger
+     */
+    public static void write(List<String> list, String filename, boolean dictionary) throws IOException { //O(n)
+        int count = list.size();
+        Path target = Paths.get(filename).toAbsolutePath();
+        Path temp = createTemp(target);
+        boolean moved = false;
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                write(list, count, channel, dictionary);
+            }
+            if (Files.exists(target) && Files.getFileAttributeView(target, PosixFileAttributeView.class) != null)
+                Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+        }
+        finally {
+            if (!moved)
+                Files.deleteIfExists(temp);
+        }
+    }
+
+    /***
+     * Method to create an empty temp file next to a target with the default permissions
+     * Files.createTempFile would make it readable by its owner only, which the move would carry over to the target
+     * @param target - file the temp file will replace
+     * @return - new empty file in the same directory
+     * @throws IOException if the file cannot be created
+     */
+    private static Path createTemp(Path target) throws IOException { //O(1) expected
+        while (true) {
+            Path temp = target.resolveSibling(target.getFileName() + "."
+                    + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(temp);
+            }
+            catch (FileAlreadyExistsException e) {
+                // another writer picked the same name, try another
+            }
+        }
+    }
+
+    /***
+     * Method to write the body and then the header of a snapshot
+     * @param list - List of Strings being written
+     * @param count - number of elements in the List
+     * @param channel - empty file being written
+     * @param dictionary - true to write each distinct String once and a code per element
+     * @throws IOException if the file cannot be written or the snapshot would be 2 GB or larger
+     */
+    private static void write(List<String> list, int count, FileChannel channel, boolean dictionary) throws IOException { //O(n)
+        Output out = new Output(channel);
+        int tableCount = 0;
+        IntArrayList codes = null;
+        if (dictionary) {
+            HashMap<String, Integer> seen = new HashMap<>();
+            codes = new IntArrayList(Math.max(count, 1));
+            ListIterator<String> it = list.listIterator();
+            for (int i = 0; i < count; i++) {
+                String value = it.next();
+                Integer code = seen.get(value);
+                if (code == null) {
+                    code = tableCount++;
+                    seen.put(value, code);
+                    out.putString(value);
+                }
+                codes.add(code);
+            }
+        }
+        else {
+            ListIterator<String> it = list.listIterator();
+            for (int i = 0; i < count; i++)
+                out.putString(it.next());
+            tableCount = count;
+        }
+        long tableBytes = out.written;
+        int codeBytes = dictionary ? codeBytes(tableCount) : 0;
+        out.reserve((long) count * codeBytes);
+        for (int i = 0; codes != null && i < count; i++)
+            out.putCode(codes.get(i), codeBytes);
+        out.flush();
+        ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putShort(VERSION).put(dictionary ? DICTIONARY : 0).put((byte) codeBytes)
+                .putInt(count).putInt(tableCount).putLong(tableBytes).putInt((int) out.crc.getValue()).putInt(0);
+        header.flip();
+        while (header.hasRemaining())
+            channel.write(header, header.position());
+    }
+
+    /***
+     * Method to read a snapshot file and add all of its elements to a List type
+     * An ArrayList is grown once to fit every element first. With a dictionary, equal elements share one String.
+     * @param list - List being added to
+     * @param filename - file being read from
+     * @throws IOException if the file cannot be read or is not a valid snapshot, including a checksum mismatch
+     */
+    public static void readFromFile(List<String> list, String filename) throws IOException { //O(n)
+        MappedByteBuffer buffer = map(filename);
+        int count = buffer.getInt(COUNT);
+        int tableCount = buffer.getInt(TABLE_COUNT);
+        boolean dictionary = buffer.get(FLAGS) == DICTIONARY;
+        if (list instanceof ArrayList)
+            ((ArrayList<String>) list).ensureCapacity(list.size() + count);
+        byte[] scratch = new byte[256];
+        int position = HEADER;
+        String[] table = dictionary ? new String[tableCount] : null;
+        for (int i = 0; i < tableCount; i++) {
+            int length = varint(buffer, position);
+            position += varintBytes(length);
+            String value = null;
+            if (length > 0) {
+                length--;
+                if (length > scratch.length)
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                buffer.get(position, scratch, 0, length);
+                value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+            if (dictionary)
+                table[i] = value;
+            else
+                list.add(value);
+        }
+        if (dictionary) {
+            int codeBytes = buffer.get(CODE_BYTES);
+            for (int i = 0; i < count; i++)
+                list.add(table[code(buffer, position, i, codeBytes)]);
+        }
+    }
+
+    /***
+     * Method to map a snapshot file and check its header, size, checksum, table and codes
+     * A file that passes can be read without further checks: every table entry lies inside the table, the table
+     * ends where the header says and every code names a table entry
+     * @param filename - file being read from
+     * @return - the whole file, little-endian
+     * @throws IOException if the file cannot be mapped or is not a valid snapshot
+     */
+    static MappedByteBuffer map(String filename) throws IOException { //O(n) for the checksum
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER)
+                throw new IOException(filename + " is not a list snapshot");
+            if (fileSize > Integer.MAX_VALUE)
+                throw new IOException(filename + " is larger than 2 GB");
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != MAGIC)
+            throw new IOException(filename + " is not a list snapshot");
+        if (buffer.getShort(4) != VERSION)
+            throw new IOException(filename + " has snapshot version " + buffer.getShort(4) + ", expected " + VERSION);
+        int count = buffer.getInt(COUNT);
+        int tableCount = buffer.getInt(TABLE_COUNT);
+        long tableBytes = buffer.getLong(TABLE_BYTES);
+        int codeBytes = buffer.get(CODE_BYTES);
+        boolean dictionary = buffer.get(FLAGS) == DICTIONARY;
+        boolean valid = count >= 0 && tableCount >= 0 && tableBytes >= 0
+                && (dictionary ? codeBytes == codeBytes(tableCount) : codeBytes == 0 && tableCount == count);
+        if (!valid || HEADER + tableBytes + (long) count * codeBytes != buffer.capacity())
+            throw new IOException(filename + " has a damaged header or is truncated");
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(HEADER, buffer.capacity() - HEADER));
+        if ((int) crc.getValue() != buffer.getInt(CHECKSUM))
+            throw new IOException(filename + " failed its checksum");
+        int tableEnd = HEADER + (int) tableBytes;
+        if (!validTable(buffer, tableCount, tableEnd)
+                || (dictionary && !validCodes(buffer, tableEnd, count, codeBytes, tableCount)))
+            throw new IOException(filename + " is a damaged snapshot, its table or codes do not match the header");
+        return buffer;
+    }
+
+    /***
+     * Method to walk the table and check that every entry is a shortest-form varint and its bytes, inside the table
+     * @param buffer - mapped snapshot
+     * @param tableCount - number of entries the header gives
+     * @param tableEnd - offset just after the table
+     * @return - true if the entries end exactly at tableEnd
+     */
+    private static boolean validTable(ByteBuffer buffer, int tableCount, int tableEnd) { //O(table)
+        int position = HEADER;
+        for (int i = 0; i < tableCount; i++) {
+            int start = position;
+            int length = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (position >= tableEnd || shift > 28)
+                    return false;
+                b = buffer.get(position++);
+                length |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (length < 0 || position - start != varintBytes(length) || length - 1 > tableEnd - position)
+                return false;
+            position += Math.max(length - 1, 0);
+        }
+        return position == tableEnd;
+    }
+
+    /***
+     * Method to check that every code names a table entry
+     * @param buffer - mapped snapshot
+     * @param codesStart - offset of the first code
+     * @param count - number of elements
+     * @param codeBytes - bytes per code
+     * @param tableCount - number of entries in the table
+     * @return - true if every code is between 0 and tableCount - 1
+     */
+    private static boolean validCodes(ByteBuffer buffer, int codesStart, int count, int codeBytes, int tableCount) { //O(n)
+        for (int i = 0; i < count; i++) {
+            int code = code(buffer, codesStart, i, codeBytes);
+            if (code < 0 || code >= tableCount)
+                return false;
+        }
+        return true;
+    }
+
+    /***
+     * Method to return the number of bytes a code needs for a table of some size
+     * @param tableCount - number of Strings in the table
+     * @return - 1, 2 or 4
+     */
+    static int codeBytes(int tableCount) { //O(1)
+        if (tableCount <= 1 << 8)
+            return 1;
+        return tableCount <= 1 << 16 ? 2 : 4;
+    }
+
+    /***
+     * Method to read the code of an element
+     * @param buffer - mapped snapshot
+     * @param codesStart - offset of the first code
+     * @param index - index of the element
+     * @param codeBytes - bytes per code
+     * @return - index into the table
+     */
+    static int code(ByteBuffer buffer, int codesStart, int index, int codeBytes) { //O(1)
+        if (codeBytes == 1)
+            return buffer.get(codesStart + index) & 0xFF;
+        if (codeBytes == 2)
+            return buffer.getShort(codesStart + 2 * index) & 0xFFFF;
+        return buffer.getInt(codesStart + 4 * index);
+    }
+
+    /***
+     * Method to read a varint, seven bits per byte starting with the lowest, the high bit set on all but the last
+     * @param buffer - mapped snapshot
+     * @param position - offset of the first byte
+     * @return - value
+     */
+    static int varint(ByteBuffer buffer, int position) { //O(1)
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(position++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    /***
+     * Method to return the number of bytes a varint takes
+     * @param value - non-negative value
+     * @return - 1 to 5
+     */
+    static int varintBytes(int value) { //O(1)
+        int bytes = 1;
+        while ((value >>>= 7) != 0)
+            bytes++;
+        return bytes;
+    }
+
+    /***
+     * Inner class for the buffer the writer fills, which keeps the checksum and the number of bytes written
+     */
+    private static class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BLOCK).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+        private long written;
+        /***
+         * Constructor with one argument, writing starts just after the header
+         * @param channel - file being written
+         */
+        Output(FileChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER);
+        }
+        /***
+         * Method to add a table entry
+         * @param value - String, may be null
+         */
+        void putString(String value) throws IOException { //O(length of the String)
+            byte[] bytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+            int length = bytes == null ? 0 : bytes.length + 1;
+            reserve(varintBytes(length) + (bytes == null ? 0 : bytes.length));
+            if (buffer.remaining() < 5)
+                flush();
+            while ((length & ~0x7F) != 0) {
+                buffer.put((byte) (length | 0x80));
+                length >>>= 7;
+            }
+            buffer.put((byte) length);
+            written += bytes == null ? 1 : varintBytes(bytes.length + 1);
+            if (bytes == null)
+                return;
+            if (bytes.length > buffer.remaining())
+                flush();
+            if (bytes.length > buffer.remaining()) {
+                crc.update(bytes);
+                ByteBuffer direct = ByteBuffer.wrap(bytes);
+                while (direct.hasRemaining())
+                    channel.write(direct);
+            }
+            else
+                buffer.put(bytes);
+            written += bytes.length;
+        }
+        /***
+         * Method to add an element's code
+         * @param code - index into the table
+         * @param codeBytes - bytes per code
+         */
+        void putCode(int code, int codeBytes) throws IOException { //O(1)
+            if (buffer.remaining() < codeBytes)
+                flush();
+            if (codeBytes == 1)
+                buffer.put((byte) code);
+            else if (codeBytes == 2)
+                buffer.putShort((short) code);
+            else
+                buffer.putInt(code);
+            written += codeBytes;
+        }
+        /***
+         * Method to check that some more bytes still fit in a snapshot, before any of them are written
+         * @param bytes - number of bytes about to be written
+         * @throws IOException if the snapshot would be 2 GB or larger
+         */
+        void reserve(long bytes) throws IOException { //O(1)
+            if (HEADER + written + bytes > Integer.MAX_VALUE)
+                throw new IOException("Snapshot would be larger than 2 GB");
+        }
+        /***
+         * Method to write out what is in the buffer
+         */
+        void flush() throws IOException { //O(BLOCK)
+            buffer.flip();
+            crc.update(buffer.array(), 0, buffer.limit());
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ListIterator;
+
+/***
+ * Class to render a List as "[a b c ]" into a Writer or a String
+ * Elements are appended to one StringBuilder and copied out in blocks through a reusable char array, so a long list
+ * costs a few large writes instead of one synchronized print and one temporary String per element
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ListWriter {
+    // Number of chars collected before they are written out
+    static final int BLOCK = 8192;
+    // Buffers reused by every write on the same thread
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    /***
+     * Inner class holding the StringBuilder elements are collected in and the char array they are copied out through
+     */
+    private static class Buffers {
+        final StringBuilder text = new StringBuilder(BLOCK + 256);
+        char[] block = new char[BLOCK + 256];
+    }
+
+    /***
+     * Private constructor, this class only has static methods
+     */
+    private ListWriter() {
+    }
+
+    /***
+     * Method to write a list forward
+     * @param <E> - Data type being written
+     * @param list - list being written
+     * @param out - Writer being written to, it is not flushed
+     * @throws IOException if the Writer fails
+     */
+    public static <E> void writeForward(List<E> list, Writer out) throws IOException { //O(n)
+        write(list.listIterator(), false, true, out);
+    }
+
+    /***
+     * Method to write a list backward
+     * @param <E> - Data type being written
+     * @param list - list being written
+     * @param out - Writer being written to, it is not flushed
+     * @throws IOException if the Writer fails
+     */
+    public static <E> void writeBackward(List<E> list, Writer out) throws IOException { //O(n)
+        write(list.listIterator(list.size()), true, true, out);
+    }
+
+    /***
+     * Method to write the elements of a list forward, each followed by a space, without the brackets
+     * A list that arrives in parts is written as one "[a b c ]" by writing "[", then each part, then "]"
+     * @param <E> - Data type being written
+     * @param list - list being written
+     * @param out - Writer being written to, it is not flushed
+     * @throws IOException if the Writer fails
+     */
+    public static <E> void writeElements(List<E> list, Writer out) throws IOException { //O(n)
+        write(list.listIterator(), false, false, out);
+    }
+
+    /***
+     * Method to return the String reppresentation of a list in forward order
+     * @param <E> - Data type of the list
+     * @param list - list being rendered
+     * @return - String of the list
+     */
+    public static <E> String toString(List<E> list) { //O(n)
+        return toString(list, true);
+    }
+
+    /***
+     * Method to return the String reppresentation of a list in forward order, with or without a space after the last element
+     * @param <E> - Data type of the list
+     * @param list - list being rendered
+     * @param trailingSpace - false to render "[a b c]" instead of "[a b c ]"
+     * @return - String of the list
+     */
+    public static <E> String toString(List<E> list, boolean trailingSpace) { //O(n)
+        StringBuilder output = new StringBuilder(16 + list.size() * 8);
+        ListIterator<E> li = list.listIterator();
+        output.append('[');
+        while (li.hasNext()) {
+            output.append(li.next());
+            if (trailingSpace || li.hasNext())
+                output.append(' ');
+        }
+        return output.append(']').toString();
+    }
+
+    /***
+     * Method to write the elements an iterator returns between brackets, each followed by a space
+     * @param <E> - Data type being written
+     * @param li - iterator positioned at the first element to write
+     * @param backward - true to call previous() instead of next()
+     * @param brackets - false to leave out the opening and closing bracket
+     * @param out - Writer being written to
+     * @throws IOException if the Writer fails
+     */
+    private static <E> void write(ListIterator<E> li, boolean backward, boolean brackets, Writer out) throws IOException { //O(n)
+        Buffers buffers = BUFFERS.get();
+        StringBuilder buffer = buffers.text;
+        char[] block = buffers.block;
+        buffer.setLength(0);
+        if (brackets)
+            buffer.append('[');
+        while (backward ? li.hasPrevious() : li.hasNext()) {
+            buffer.append(backward ? li.previous() : li.next()).append(' ');
+            if (buffer.length() >= BLOCK)
+                block = buffers.block = drain(buffer, block, out);
+        }
+        if (brackets)
+            buffer.append(']');
+        buffers.block = drain(buffer, block, out);
+    }
+
+    /***
+     * Method to copy the chars collected so far to the Writer and empty the buffer
+     * @param buffer - chars collected
+     * @param block - char array reused for the copy
+     * @param out - Writer being written to
+     * @return - the char array, replaced by a larger one if the buffer did not fit
+     * @throws IOException if the Writer fails
+     */
+    private static char[] drain(StringBuilder buffer, char[] block, Writer out) throws IOException { //O(block)
+        int length = buffer.length();
+        if (length > block.length)
+            block = new char[length];
+        buffer.getChars(0, length, block, 0);
+        out.write(block, 0, length);
+        buffer.setLength(0);
+        return block;
+    }
+}
@@ -0,0 +1,210 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/***
+ * Class to model an ArrayList of long values
+ * Works like ArrayList but stores the values in a long[], so no value is boxed into a Long
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class LongArrayList {
+    // data members
+    private long[] elements;
+    private int size;
+    // Constructors
+
+    /***
+     * Default Constructor with no parameters
+     * Makes an empty list with room for 10 values and size equal to zero
+     */
+    public LongArrayList() { //O(1)
+        this(10);
+    }
+    /***
+     * Constructor with one argument, the capacity of the list
+     * @param capacity - capacity to be set
+     */
+    public LongArrayList(int capacity) { //O(1)
+        elements = new long[capacity];
+        size = 0;
+    }
+    // Adding a value to the list (2 methods)
+
+    /***
+     * Method to add a value to the end of the LongArrayList
+     * @param value - value being added
+     * @return - true if added successfully
+     */
+    public boolean add(long value) { //O(1) up to O(n)
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        return true;
+    }
+    /***
+     * Method to add a value at the given index
+     * @param index - index being added at
+     * @param value - value being added
+     * @return - true if added successfully
+     */
+    public boolean add(int index, long value) { //O(n)
+        if(index > size || index < 0)
+            throw new ArrayIndexOutOfBoundsException();
+        ensureCapacity(size + 1); //O(n)
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        return true;
+    }
+    // Getter and Setter
+
+    /***
+     * Method to return the value at the given index
+     * @param index - index that the value is being returned from
+     * @return - value at index
+     */
+    public long get(int index) { //O(1)
+        checkIndex(index); //O(1)
+        return elements[index];
+    }
+    /***
+     * Method to set the value at the given index
+     * @param index - index being set
+     * @param value - value being set
+     * @return - previous value at the index
+     */
+    public long set(int index, long value) { //O(1)
+        checkIndex(index); //O(1)
+        long oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    /***
+     * Method to return the size of LongArrayList
+     * @return - size of the LongArrayList
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to clear a LongArrayList
+     * Sets the size equal to zero
+     */
+    public void clear() { //O(1)
+        size = 0;
+    }
+
+    /***
+     * Method to check if the LongArrayList is empty
+     * @return - boolean representation of if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+
+    /***
+     * Method to remove the value at a specific index
+     * @param index - index the value is removed from
+     * @return - the value at the index
+     */
+    public long remove(int index) { //O(n)
+        checkIndex(index);
+        long value = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    /***
+     * Method to trim the capacity of the LongArrayList to its size
+     */
+    public void trimToSize() { //O(n)
+        if (size != elements.length)
+            elements = Arrays.copyOf(elements, size);
+    }
+
+    /***
+     * Method to grow the backing array so it can hold at least the given number of values
+     * @param minCapacity - number of values the LongArrayList must be able to hold
+     */
+    public void ensureCapacity(int minCapacity) { //O(N)
+        if (minCapacity > elements.length)
+            elements = Arrays.copyOf(elements, Math.max((int) (elements.length * 1.5), minCapacity));
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the LongArrayList
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to return the String reppresentation of the LongArrayList
+     * @return - String of the LongArrayList
+     */
+    public String toString() { //O(n)
+        StringBuilder output = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                output.append(' ');
+            output.append(elements[i]);
+        }
+        return output.append(']').toString();
+    }
+
+    /***
+     * Method to return an iterator over the values from the first to the last
+     * @return - iterator whose nextLong() never boxes
+     */
+    public PrimitiveIterator.OfLong iterator() { //O(1)
+        return new LongArrayListIterator(false);
+    }
+
+    /***
+     * Method to return an iterator over the values from the last to the first
+     * @return - iterator whose nextLong() never boxes
+     */
+    public PrimitiveIterator.OfLong reverseIterator() { //O(1)
+        return new LongArrayListIterator(true);
+    }
+
+    /***
+     * Inner class for an iterator of type LongArrayListIterator
+     */
+    private class LongArrayListIterator implements PrimitiveIterator.OfLong {
+        private final boolean reverse;
+        private int cursor;
+        /***
+         * Constructor with one parameter
+         * @param reverse - true to go from the last value to the first
+         */
+        LongArrayListIterator(boolean reverse) {
+            this.reverse = reverse;
+            cursor = reverse ? size - 1 : 0;
+        }
+        /***
+         * Method to determine if there is another value
+         * @return - true if nextLong() has a value to return
+         */
+        public boolean hasNext() {
+            return reverse ? cursor >= 0 : cursor < size;
+        }
+        /***
+         * Method to return the next value
+         * @return - the next value in the LongArrayList
+         * @throws NoSuchElementException if there is no next value
+         */
+        public long nextLong() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return reverse ? elements[cursor--] : elements[cursor++];
+        }
+    }
+}
@@ -0,0 +1,114 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/***
+ * Class to read a line delimited file like countries.txt into a List without Scanner
+ * The file is memory mapped and newlines are found eight bytes at a time, lines end at "\n" or "\r\n"
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class MappedLineReader {
+    // Largest part of the file mapped at once, a line may not be longer than this
+    static final int WINDOW = 1 << 30;
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /***
+     * Private constructor, this class only has static methods
+     */
+    private MappedLineReader() {
+    }
+
+    /***
+     * Method to read from a file and add all of the lines to a List type
+     * Gives the same lines as Test.readFromFile for files ending lines with "\n" or "\r\n"
+     * @param list - List being added to
+     * @param filename - file being read from
+     * @throws IOException if the file cannot be opened or mapped, or has a line longer than WINDOW bytes
+     */
+    public static void readFromFile(List<String> list, String filename) throws IOException { //O(n)
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            readLines(channel, 0, channel.size(), list);
+        }
+    }
+
+    /***
+     * Method to add the lines found in part of a file to a List
+     * The part must start at the beginning of a line, its last line ends at a newline or at the end of the part
+     * @param channel - open file
+     * @param from - offset of the first byte of the part
+     * @param to - offset just past the last byte of the part
+     * @param list - List being added to
+     * @throws IOException if the file cannot be mapped or has a line longer than WINDOW bytes
+     */
+    static void readLines(FileChannel channel, long from, long to, List<String> list) throws IOException { //O(n)
+        byte[] scratch = new byte[256];
+        long position = from;
+        while (position < to) {
+            int length = (int) Math.min(WINDOW, to - position);
+            boolean last = position + length == to;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int start = 0;
+            while (start < length) {
+                int newline = nextNewline(buffer, start, length);
+                if (newline < 0 && !last)
+                    break;
+                int end = newline < 0 ? length : newline;
+                int lineLength = lineLength(buffer, start, end);
+                if (lineLength > scratch.length)
+                    scratch = new byte[Math.max(lineLength, scratch.length * 2)];
+                buffer.get(start, scratch, 0, lineLength);
+                list.add(new String(scratch, 0, lineLength, StandardCharsets.UTF_8));
+                start = end + 1;
+            }
+            if (start == 0 && !last)
+                throw new IOException("Line longer than " + WINDOW + " bytes at offset " + position);
+            position += Math.min(start, length);
+        }
+    }
+
+    /***
+     * Method to return the length of a line without its trailing carriage return
+     * @param buffer - buffer holding the line
+     * @param start - index of the first byte of the line
+     * @param end - index of the newline ending it, or of the end of the buffer
+     * @return - number of bytes of text in the line
+     */
+    static int lineLength(ByteBuffer buffer, int start, int end) { //O(1)
+        if (end > start && buffer.get(end - 1) == '\r')
+            end--;
+        return end - start;
+    }
+
+    /***
+     * Method to find the next newline in a buffer, reading eight bytes at a time
+     * A byte equal to '\n' becomes zero after the xor, and (x - 0x01..) & ~x & 0x80.. sets the high bit of the
+     * lowest zero byte, so the number of trailing zero bits gives its position
+     * @param buffer - little endian buffer being searched
+     * @param from - index the search starts at
+     * @param limit - index the search stops before
+     * @return - index of the newline, or -1 if there is none before limit
+     */
+    static int nextNewline(ByteBuffer buffer, int from, int limit) { //O(n)
+        int i = from;
+        for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+            long x = buffer.getLong(i) ^ NEWLINES;
+            long found = (x - LOW_BITS) & ~x & HIGH_BITS;
+            if (found != 0)
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+        }
+        for (; i < limit; i++)
+            if (buffer.get(i) == '\n')
+                return i;
+        return -1;
+    }
+}
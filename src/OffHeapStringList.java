@@ -0,0 +1,341 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/***
+ * Class to model a List of Strings stored outside the Java heap that implements List
+ * Each String is kept as UTF-8 bytes in large direct buffers with an offset table next to them, so the garbage
+ * collector sees a handful of buffer objects instead of one String and one array slot per element.
+ * Strings are decoded only when get() or an iterator asks for them.
+ * The memory is released by close(), after which the list cannot be used.
+ * The offset table is split into pages of PAGE entries, so it is not bound by the 2 GB limit of one buffer; the
+ * list holds at most Integer.MAX_VALUE Strings.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class OffHeapStringList implements List<String>, AutoCloseable {
+    // Size of each data buffer, a String longer than this gets a buffer of its own
+    static final int CHUNK = 64 << 20;
+    // Number of offsets in a full page of the offset table, a power of two
+    static final int PAGE_SHIFT = 20;
+    static final int PAGE = 1 << PAGE_SHIFT;
+    // Frees a direct buffer right away when the running JDK allows it, null otherwise
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+    static {
+        Method method = null;
+        Object unsafe = null;
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            method = type.getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            // without it the buffers are released when the collector finds them unreachable
+            method = null;
+            unsafe = null;
+        }
+        INVOKE_CLEANER = method;
+        UNSAFE = unsafe;
+    }
+
+    // data members
+    // Every element is an int byte count followed by the bytes, and never crosses from one chunk into the next
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    // Entry i is (chunk index << 32) | position in the chunk, stored as a long in page i / PAGE of the offset table
+    // Every page but the last holds PAGE entries, the last one grows by half until it does too
+    private ByteBuffer[] pages;
+    private int pageCount;
+    private int size;
+    private boolean closed;
+
+    /***
+     * Constructor with no arguments
+     * Makes an empty list with room for 1024 offsets, data buffers are allocated on the first add
+     */
+    public OffHeapStringList() { //O(1)
+        this(1024);
+    }
+
+    /***
+     * Constructor with one argument, the number of elements the offset table starts with room for
+     * @param capacity - initial number of offsets, at most PAGE are allocated up front
+     */
+    public OffHeapStringList(int capacity) { //O(1)
+        chunks = new ByteBuffer[4];
+        chunkCount = 0;
+        pages = new ByteBuffer[4];
+        pages[0] = ByteBuffer.allocateDirect(Math.min(Math.max(capacity, 16), PAGE) * Long.BYTES);
+        pageCount = 1;
+        size = 0;
+    }
+
+    /***
+     * Method to add a String to the end of the list
+     * @param value - String being added
+     * @return - true if added
+     * @throws NullPointerException if value is null
+     * @throws IllegalStateException if the list has been closed or already holds Integer.MAX_VALUE Strings
+     */
+    public boolean add(String value) { //O(length of value), O(PAGE) when the offset table grows
+        checkOpen();
+        if (size == Integer.MAX_VALUE)
+            throw new IllegalStateException("List is full");
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int needed = Integer.BYTES + bytes.length;
+        ByteBuffer chunk = chunkCount == 0 ? null : chunks[chunkCount - 1];
+        if (chunk == null || chunk.remaining() < needed) {
+            chunk = ByteBuffer.allocateDirect(Math.max(CHUNK, needed));
+            if (chunkCount == chunks.length)
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            chunks[chunkCount++] = chunk;
+        }
+        ByteBuffer page = pages[pageCount - 1];
+        if (!page.hasRemaining()) {
+            int entries = page.capacity() / Long.BYTES;
+            if (entries < PAGE) {
+                // at most PAGE * 8 bytes, so the new capacity cannot overflow
+                ByteBuffer grown = ByteBuffer.allocateDirect(Math.min(entries + (entries >> 1), PAGE) * Long.BYTES);
+                page.flip();
+                grown.put(page);
+                free(page);
+                page = grown;
+                pages[pageCount - 1] = page;
+            }
+            else {
+                page = ByteBuffer.allocateDirect(PAGE * Long.BYTES);
+                if (pageCount == pages.length)
+                    pages = Arrays.copyOf(pages, pageCount * 2);
+                pages[pageCount++] = page;
+            }
+        }
+        page.putLong(((long) (chunkCount - 1) << 32) | chunk.position());
+        chunk.putInt(bytes.length);
+        chunk.put(bytes);
+        size++;
+        return true;
+    }
+
+    /***
+     * Method to return the String at the given index, decoding it from off-heap memory
+     * @param index - index that the value is being returned from
+     * @return - String at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     * @throws IllegalStateException if the list has been closed
+     */
+    public String get(int index) { //O(length of the String)
+        checkOpen();
+        checkIndex(index);
+        long entry = pages[index >>> PAGE_SHIFT].getLong((index & (PAGE - 1)) * Long.BYTES);
+        ByteBuffer chunk = chunks[(int) (entry >>> 32)];
+        int position = (int) entry;
+        byte[] bytes = new byte[chunk.getInt(position)];
+        chunk.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /***
+     * Method to return the size of the list
+     * @return - size of the List
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to check if the List is empty
+     * @return - if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+
+    /***
+     * Method to return the off-heap memory held by the list
+     * @return - bytes allocated for data and offsets
+     */
+    public long offHeapBytes() { //O(chunks)
+        long bytes = 0;
+        for (int i = 0; i < pageCount; i++)
+            bytes += pages[i].capacity();
+        for (int i = 0; i < chunkCount; i++)
+            bytes += chunks[i].capacity();
+        return bytes;
+    }
+
+    /***
+     * Method to release the off-heap memory
+     * The buffers are freed right away when the JDK allows it, otherwise when they are next collected.
+     * Calling close() again does nothing.
+     */
+    public void close() { //O(chunks)
+        if (closed)
+            return;
+        closed = true;
+        for (int i = 0; i < chunkCount; i++) {
+            free(chunks[i]);
+            chunks[i] = null;
+        }
+        for (int i = 0; i < pageCount; i++) {
+            free(pages[i]);
+            pages[i] = null;
+        }
+        pageCount = 0;
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /***
+     * Method to free a direct buffer if the JDK allows it
+     * @param buffer - buffer that is not used anymore
+     */
+    private static void free(ByteBuffer buffer) { //O(1)
+        if (INVOKE_CLEANER == null)
+            return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        }
+        catch (ReflectiveOperationException e) {
+            // left for the collector
+        }
+    }
+
+    /***
+     * Method to check that the list has not been closed
+     * @throws IllegalStateException if it has
+     */
+    private void checkOpen() { //O(1)
+        if (closed)
+            throw new IllegalStateException("List has been closed");
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the List
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        return ListWriter.toString(this);
+    }
+
+    /***
+     * Inner class for an OffHeapStringListIterator
+     * The cursor sits between elements: next() decodes the String at the cursor, previous() the one before it
+     */
+    private class OffHeapStringListIterator implements ListIterator<String>{
+        private int cursor;
+        /***
+         * Constructor with one argument
+         * @param index - index of the String returned by the first call to next()
+         */
+        OffHeapStringListIterator(int index){
+            cursor = index;
+        }
+        /***
+         * Method to check if there is a String after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < size;
+        }
+        /***
+         * Method to return the next String
+         * @return - next String in the list
+         * @throws NoSuchElementException if there is no next String
+         */
+        public String next() { //O(length of the String)
+            if (cursor >= size)
+                throw new NoSuchElementException();
+            return get(cursor++);
+        }
+        /***
+         * Method to check if there is a String before the cursor
+         * @return - true if the cursor is after the start
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous String
+         * @return - previous String in the list
+         * @throws NoSuchElementException if there is no previous String
+         */
+        public String previous() { //O(length of the String)
+            if (cursor <= 0)
+                throw new NoSuchElementException();
+            return get(--cursor);
+        }
+        /***
+         * Method to return the index of the String next() would return
+         * @return - index
+         */
+        public int nextIndex(){
+            return cursor;
+        }
+        /***
+         * Method to return the index of the String previous() would return
+         * @return - index
+         */
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        /***
+         * Method that is not supported, the list is append-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void set(String value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the list is append-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void add(String value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the list is append-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the 0th index of the List
+     * @return - ListIterator
+     */
+    public ListIterator<String> listIterator(){ //O(1)
+        return new OffHeapStringListIterator(0);
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the specified index of the List
+     * @param - index of the String returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<String> listIterator(int index){ //O(1)
+        if (index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException();
+        return new OffHeapStringListIterator(index);
+    }
+}
@@ -0,0 +1,346 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/***
+ * Class to model a read-only List of the lines of a file that implements List
+ * Only the offset of each line is kept on the heap, the text stays in the memory mapped file and is decoded to a
+ * String when get() or an iterator reaches it
+ * Several threads can read it at once, each cache slot holds one immutable entry that is read in a single step
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class OffsetStringList implements List<String> {
+    // data members
+    // Mapped parts of the file, every line lies entirely inside the window it starts in
+    private final MappedByteBuffer[] windows;
+    private final long[] windowStarts;
+    private final int[] windowFirstLines;
+    // offsets[i] is where line i starts, offsets[size] is one past the newline ending the last line
+    // intOffsets is used when the file is smaller than 2 GB, longOffsets otherwise
+    private final int[] intOffsets;
+    private final long[] longOffsets;
+    private final int size;
+    // Optional direct mapped cache of decoded lines, null when disabled
+    private final CachedLine[] cache;
+
+    /***
+     * Inner class for one cache slot, the line index and its decoded line are replaced together
+     */
+    private static class CachedLine {
+        final int index;
+        final String value;
+        CachedLine(int index, String value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+
+    /***
+     * Constructor with one argument, the file being indexed, without a cache
+     * @param filename - file being read from
+     * @throws IOException if the file cannot be opened or mapped, or has a line longer than MappedLineReader.WINDOW bytes
+     */
+    public OffsetStringList(String filename) throws IOException { //O(n)
+        this(filename, 0);
+    }
+
+    /***
+     * Constructor with two arguments, the file being indexed and the number of decoded lines to cache
+     * @param filename - file being read from
+     * @param cacheSize - number of decoded lines kept, rounded up to a power of two, 0 disables the cache
+     * @throws IOException if the file cannot be opened or mapped, or has a line longer than MappedLineReader.WINDOW bytes
+     */
+    public OffsetStringList(String filename, int cacheSize) throws IOException { //O(n)
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            boolean small = fileSize < Integer.MAX_VALUE;
+            int[] ints = small ? new int[16] : null;
+            long[] longs = small ? null : new long[16];
+            MappedByteBuffer[] maps = new MappedByteBuffer[1];
+            long[] starts = new long[1];
+            int[] firstLines = new int[1];
+            int windowCount = 0;
+            int lines = 0;
+            long position = 0;
+            long next = 0;
+            while (position < fileSize) {
+                int length = (int) Math.min(MappedLineReader.WINDOW, fileSize - position);
+                boolean last = position + length == fileSize;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                if (windowCount == maps.length) {
+                    maps = Arrays.copyOf(maps, windowCount * 2);
+                    starts = Arrays.copyOf(starts, windowCount * 2);
+                    firstLines = Arrays.copyOf(firstLines, windowCount * 2);
+                }
+                maps[windowCount] = buffer;
+                starts[windowCount] = position;
+                firstLines[windowCount++] = lines;
+                int start = 0;
+                while (start < length) {
+                    int newline = MappedLineReader.nextNewline(buffer, start, length);
+                    if (newline < 0 && !last)
+                        break;
+                    if (lines + 1 >= (small ? ints.length : longs.length)) {
+                        int grown = (lines + 1) + ((lines + 1) >> 1);
+                        if (small)
+                            ints = Arrays.copyOf(ints, grown);
+                        else
+                            longs = Arrays.copyOf(longs, grown);
+                    }
+                    if (small)
+                        ints[lines] = (int) (position + start);
+                    else
+                        longs[lines] = position + start;
+                    lines++;
+                    start = (newline < 0 ? length : newline) + 1;
+                    next = position + start;
+                }
+                if (start == 0 && !last)
+                    throw new IOException("Line longer than " + MappedLineReader.WINDOW + " bytes at offset " + position);
+                position += Math.min(start, length);
+            }
+            // when the last line has no newline the sentinel pretends it has one
+            if (small) {
+                intOffsets = Arrays.copyOf(ints, lines + 1);
+                intOffsets[lines] = (int) next;
+                longOffsets = null;
+            }
+            else {
+                longOffsets = Arrays.copyOf(longs, lines + 1);
+                longOffsets[lines] = next;
+                intOffsets = null;
+            }
+            windows = Arrays.copyOf(maps, windowCount);
+            windowStarts = Arrays.copyOf(starts, windowCount);
+            windowFirstLines = Arrays.copyOf(firstLines, windowCount);
+            size = lines;
+        }
+        if (cacheSize > 0) {
+            int capacity = Integer.highestOneBit(cacheSize - 1) << 1;
+            cache = new CachedLine[Math.max(capacity, 1)];
+        }
+        else
+            cache = null;
+    }
+
+    /***
+     * Method that is not supported, the list is a read-only view of the file
+     * @throws UnsupportedOperationException - always
+     */
+    public boolean add(String value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /***
+     * Method to return the line at the given index, decoding it from the file unless it is cached
+     * @param index - index that the value is being returned from
+     * @return - line at index, without its line ending
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public String get(int index) { //O(length of the line), O(log windows) to find the window
+        checkIndex(index);
+        if (cache == null)
+            return decode(index);
+        int slot = index & (cache.length - 1);
+        CachedLine line = cache[slot];
+        if (line == null || line.index != index) {
+            line = new CachedLine(index, decode(index));
+            cache[slot] = line;
+        }
+        return line.value;
+    }
+
+    /***
+     * Method to decode a line from the mapped file
+     * @param index - index of the line
+     * @return - decoded line
+     */
+    private String decode(int index) { //O(length of the line)
+        long start = offset(index);
+        long end = offset(index + 1) - 1;
+        int window = Arrays.binarySearch(windowFirstLines, index);
+        if (window < 0)
+            window = -window - 2;
+        MappedByteBuffer buffer = windows[window];
+        int from = (int) (start - windowStarts[window]);
+        int to = (int) Math.min(end - windowStarts[window], buffer.limit());
+        int length = MappedLineReader.lineLength(buffer, from, to);
+        byte[] bytes = new byte[length];
+        buffer.get(from, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /***
+     * Method to return the offset of the start of a line in the file
+     * @param index - index of the line, size for the sentinel
+     * @return - offset in bytes
+     */
+    private long offset(int index) { //O(1)
+        return intOffsets != null ? intOffsets[index] : longOffsets[index];
+    }
+
+    /***
+     * Method to return the size of the list
+     * @return - number of lines
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to check if the list is empty
+     * @return - if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+
+    /***
+     * Method to return the heap used by the index, not counting the mapped file
+     * @return - approximate number of bytes
+     */
+    public long indexBytes() { //O(1)
+        long bytes = intOffsets != null ? 4L * intOffsets.length : 8L * longOffsets.length;
+        if (cache != null)
+            bytes += 28L * cache.length; // reference and entry per slot
+        return bytes;
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the List
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        StringBuilder output = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0)
+                output.append(' ');
+            output.append(get(i));
+        }
+        return output.append(']').toString();
+    }
+
+    /***
+     * Inner class for an OffsetStringListIterator
+     * The cursor sits between elements: next() returns the line at the cursor, previous() the line before it
+     */
+    private class OffsetStringListIterator implements ListIterator<String>{
+        private int cursor;
+        /***
+         * Constructor with one argument
+         * @param index - index of the line returned by the first call to next()
+         */
+        OffsetStringListIterator(int index){
+            cursor = index;
+        }
+        /***
+         * Method to check if there is a line after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < size;
+        }
+        /***
+         * Method to return the next line
+         * @return - next line in the list
+         * @throws NoSuchElementException if there is no next line
+         */
+        public String next() { //O(length of the line)
+            if (cursor >= size)
+                throw new NoSuchElementException();
+            return get(cursor++);
+        }
+        /***
+         * Method to check if there is a line before the cursor
+         * @return - true if the cursor is after the start
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous line
+         * @return - previous line in the list
+         * @throws NoSuchElementException if there is no previous line
+         */
+        public String previous() { //O(length of the line)
+            if (cursor <= 0)
+                throw new NoSuchElementException();
+            return get(--cursor);
+        }
+        /***
+         * Method to return the index of the line next() would return
+         * @return - index
+         */
+        public int nextIndex(){
+            return cursor;
+        }
+        /***
+         * Method to return the index of the line previous() would return
+         * @return - index
+         */
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        /***
+         * Method that is not supported, the list is read-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void set(String value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the list is read-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void add(String value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the list is read-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the 0th index of the List
+     * @return - ListIterator
+     */
+    public ListIterator<String> listIterator(){ //O(1)
+        return new OffsetStringListIterator(0);
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the specified index of the List
+     * @param - index of the line returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<String> listIterator(int index){ //O(1)
+        if (index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException();
+        return new OffsetStringListIterator(index);
+    }
+}
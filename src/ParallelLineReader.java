@@ -0,0 +1,173 @@
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ListIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/***
+ * Class to read a line delimited file like countries.txt into a List using several threads
+ * The file is cut into byte ranges that start at the beginning of a line, each range is read on its own worker
+ * with MappedLineReader, and the pieces are added to the List in file order. For an ArrayList the pieces are
+ * copied in as blocks, for the linked lists each worker fills a list of the same kind and the pieces are spliced
+ * on in O(1), so no line is copied or relinked after its worker read it.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class ParallelLineReader {
+    // Ranges smaller than this are not worth a worker of their own
+    static final long MIN_RANGE = 1 << 20;
+    // Bytes mapped at a time while looking for the newline after a cut
+    private static final int PROBE = 1 << 16;
+
+    /***
+     * Private constructor, this class only has static methods
+     */
+    private ParallelLineReader() {
+    }
+
+    /***
+     * Method to read from a file and add all of the lines to a List type, using one worker per available processor
+     * @param list - List being added to
+     * @param filename - file being read from
+     * @throws IOException if the file cannot be read
+     */
+    public static void readFromFile(List<String> list, String filename) throws IOException {
+        readFromFile(list, filename, Runtime.getRuntime().availableProcessors());
+    }
+
+    /***
+     * Method to read from a file and add all of the lines to a List type
+     * The List ends up with the same lines in the same order as MappedLineReader.readFromFile would give it
+     * @param list - List being added to
+     * @param filename - file being read from
+     * @param threads - number of workers
+     * @throws IOException if the file cannot be read, or the calling thread is interrupted
+     */
+    public static void readFromFile(List<String> list, String filename, int threads) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            int parts = (int) Math.max(1, Math.min(threads, fileSize / MIN_RANGE));
+            if (parts == 1) {
+                MappedLineReader.readLines(channel, 0, fileSize, list);
+                return;
+            }
+            long[] cuts = new long[parts + 1];
+            cuts[parts] = fileSize;
+            for (int i = 1; i < parts; i++)
+                cuts[i] = Math.max(cuts[i - 1], lineStart(channel, fileSize * i / parts, fileSize));
+
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                // java.util's ArrayList, a generic array of Futures or Lists can only be created raw
+                java.util.ArrayList<Future<List<String>>> pieces = new java.util.ArrayList<>(parts);
+                for (int i = 0; i < parts; i++) {
+                    long from = cuts[i];
+                    long to = cuts[i + 1];
+                    pieces.add(pool.submit((Callable<List<String>>) () -> {
+                        List<String> piece = newPiece(list, to - from);
+                        MappedLineReader.readLines(channel, from, to, piece);
+                        return piece;
+                    }));
+                }
+                java.util.ArrayList<List<String>> results = new java.util.ArrayList<>(parts);
+                int total = 0;
+                for (Future<List<String>> piece : pieces) {
+                    results.add(piece.get());
+                    total += results.get(results.size() - 1).size();
+                }
+                append(list, results, total);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException)
+                    throw (IOException) e.getCause();
+                throw new IOException(e.getCause());
+            }
+            finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /***
+     * Method to make the List one worker reads its range into
+     * Linked lists get a piece of their own kind so it can be spliced on, everything else gets an ArrayList
+     * @param list - List being added to
+     * @param bytes - length of the worker's range
+     * @return - empty List
+     */
+    private static List<String> newPiece(List<String> list, long bytes) { //O(1)
+        if (list instanceof LinkedList)
+            return new LinkedList<>();
+        if (list instanceof DoublyLinkedList)
+            return new DoublyLinkedList<>();
+        // about 20 bytes per line is a fair first guess for country and region names
+        return new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, bytes / 20 + 16));
+    }
+
+    /***
+     * Method to add the pieces to the List in order
+     * An ArrayList is grown once and each piece is copied in as one block, the linked lists splice each piece
+     * on in O(1), other lists get one add() per line
+     * @param list - List being added to
+     * @param pieces - lines read by each worker, in file order, made by newPiece()
+     * @param total - number of lines in all of the pieces
+     */
+    private static void append(List<String> list, java.util.ArrayList<List<String>> pieces, int total) { //O(n), O(pieces) for the linked lists
+        if (list instanceof ArrayList) {
+            ArrayList<String> target = (ArrayList<String>) list;
+            target.ensureCapacity(target.size() + total);
+            for (List<String> piece : pieces)
+                target.addAll((ArrayList<String>) piece);
+            return;
+        }
+        if (list instanceof LinkedList) {
+            for (List<String> piece : pieces)
+                ((LinkedList<String>) list).concat((LinkedList<String>) piece);
+            return;
+        }
+        if (list instanceof DoublyLinkedList) {
+            for (List<String> piece : pieces)
+                ((DoublyLinkedList<String>) list).concat((DoublyLinkedList<String>) piece);
+            return;
+        }
+        for (List<String> piece : pieces) {
+            ListIterator<String> it = piece.listIterator();
+            while (it.hasNext())
+                list.add(it.next());
+        }
+    }
+
+    /***
+     * Method to find where the first line starting at or after an offset begins
+     * @param channel - open file
+     * @param offset - offset of the cut
+     * @param fileSize - size of the file
+     * @return - offset just past the first newline at or after offset - 1, or fileSize if there is none
+     * @throws IOException if the file cannot be mapped
+     */
+    static long lineStart(FileChannel channel, long offset, long fileSize) throws IOException {
+        long position = offset - 1;
+        while (position < fileSize) {
+            int length = (int) Math.min(PROBE, fileSize - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int newline = MappedLineReader.nextNewline(buffer, 0, length);
+            if (newline >= 0)
+                return position + newline + 1;
+            position += length;
+        }
+        return fileSize;
+    }
+}
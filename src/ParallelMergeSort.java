@@ -0,0 +1,185 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/***
+ * Class to sort a range of an array with a stable fork/join merge sort
+ * The range is cut in halves down to a grain that is sorted with Arrays.sort, then the halves are merged back
+ * up, each merge also split across workers by binary searching the larger run's middle in the smaller one.
+ * Sorted runs ping-pong between the array and one workspace array, so every level moves each element once.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+class ParallelMergeSort {
+    // Below this many elements a sort runs on the calling thread, the same cut-off Arrays.parallelSort uses
+    static final int THRESHOLD = 1 << 13;
+
+    /***
+     * Private constructor, this class only has static methods
+     */
+    private ParallelMergeSort() {
+    }
+
+    /***
+     * Method to sort a range of an array, in parallel when it is large and there is more than one worker
+     * @param <E> - Data type of the elements
+     * @param a - array being sorted
+     * @param from - first index of the range
+     * @param to - index after the last one of the range
+     * @param c - Comparator, null for natural order
+     */
+    static <E> void sort(E[] a, int from, int to, Comparator<? super E> c) { //O(n log n), O(n) workspace when parallel
+        int n = to - from;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (n <= THRESHOLD || parallelism <= 1) {
+            Arrays.sort(a, from, to, c);
+            return;
+        }
+        Comparator<? super E> order = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        int grain = Math.max(THRESHOLD, n / (parallelism << 2));
+        Object[] workspace = new Object[to];
+        ForkJoinPool.commonPool().invoke(new SortTask<>(a, (E[]) workspace, from, to, false, order, grain));
+    }
+
+    /***
+     * Inner class for the task sorting one range
+     */
+    private static class SortTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final E[] a;
+        private final E[] w;
+        private final int from, to;
+        private final boolean intoWorkspace;
+        private final Comparator<? super E> c;
+        private final int grain;
+        /***
+         * Constructor with all arguments
+         * @param a - array being sorted
+         * @param w - workspace covering at least the indices being sorted
+         * @param from - first index of the range
+         * @param to - index after the last one of the range
+         * @param intoWorkspace - true to leave the sorted range in w, false to leave it in a
+         * @param c - Comparator
+         * @param grain - largest range sorted without splitting
+         */
+        SortTask(E[] a, E[] w, int from, int to, boolean intoWorkspace, Comparator<? super E> c, int grain) {
+            this.a = a;
+            this.w = w;
+            this.from = from;
+            this.to = to;
+            this.intoWorkspace = intoWorkspace;
+            this.c = c;
+            this.grain = grain;
+        }
+        /***
+         * Method to sort both halves into the other array, then merge them into the one asked for
+         */
+        protected void compute() {
+            if (to - from <= grain) {
+                Arrays.sort(a, from, to, c);
+                if (intoWorkspace)
+                    System.arraycopy(a, from, w, from, to - from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask<>(a, w, from, middle, !intoWorkspace, c, grain),
+                    new SortTask<>(a, w, middle, to, !intoWorkspace, c, grain));
+            E[] source = intoWorkspace ? a : w;
+            E[] target = intoWorkspace ? w : a;
+            new MergeTask<>(source, from, middle, middle, to, target, from, c, grain).compute();
+        }
+    }
+
+    /***
+     * Inner class for the task merging two sorted runs of one array into another
+     */
+    private static class MergeTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final E[] source;
+        private final int lo1, hi1, lo2, hi2;
+        private final E[] target;
+        private final int at;
+        private final Comparator<? super E> c;
+        private final int grain;
+        /***
+         * Constructor with all arguments
+         * @param source - array holding both runs, the first run's elements come first among equals
+         * @param lo1 - first index of the first run
+         * @param hi1 - index after the first run
+         * @param lo2 - first index of the second run
+         * @param hi2 - index after the second run
+         * @param target - array being merged into
+         * @param at - index of target the merged run starts at
+         * @param c - Comparator
+         * @param grain - largest merge done without splitting
+         */
+        MergeTask(E[] source, int lo1, int hi1, int lo2, int hi2, E[] target, int at, Comparator<? super E> c, int grain) {
+            this.source = source;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.target = target;
+            this.at = at;
+            this.c = c;
+            this.grain = grain;
+        }
+        /***
+         * Method to merge the runs, splitting the work in two when it is larger than the grain
+         */
+        protected void compute() {
+            int n1 = hi1 - lo1;
+            int n2 = hi2 - lo2;
+            if (n1 + n2 <= grain || n1 == 0 || n2 == 0) {
+                merge();
+                return;
+            }
+            int m1, m2;
+            if (n1 >= n2) {
+                // second-run elements equal to the pivot stay after it
+                m1 = (lo1 + hi1) >>> 1;
+                m2 = bound(source[m1], lo2, hi2, false);
+            }
+            else {
+                // first-run elements equal to the pivot stay before it
+                m2 = (lo2 + hi2) >>> 1;
+                m1 = bound(source[m2], lo1, hi1, true);
+            }
+            invokeAll(new MergeTask<>(source, lo1, m1, lo2, m2, target, at, c, grain),
+                    new MergeTask<>(source, m1, hi1, m2, hi2, target, at + (m1 - lo1) + (m2 - lo2), c, grain));
+        }
+        /***
+         * Method to merge the runs on this thread, taking from the first run on ties so the sort stays stable
+         */
+        private void merge() { //O(n)
+            int i = lo1, j = lo2, k = at;
+            while (i < hi1 && j < hi2)
+                target[k++] = c.compare(source[j], source[i]) < 0 ? source[j++] : source[i++];
+            if (i < hi1)
+                System.arraycopy(source, i, target, k, hi1 - i);
+            else if (j < hi2)
+                System.arraycopy(source, j, target, k, hi2 - j);
+        }
+        /***
+         * Method to binary search a run for where a pivot goes
+         * @param pivot - element being placed
+         * @param lo - first index of the run
+         * @param hi - index after the run
+         * @param afterEquals - true to go after elements equal to the pivot, false to go before them
+         * @return - index between lo and hi
+         */
+        private int bound(E pivot, int lo, int hi, boolean afterEquals) { //O(log n)
+            while (lo < hi) {
+                int middle = (lo + hi) >>> 1;
+                int cmp = c.compare(source[middle], pivot);
+                if (cmp < 0 || (afterEquals && cmp == 0))
+                    lo = middle + 1;
+                else
+                    hi = middle;
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,438 @@
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/***
+ * Class to model a persistent List that implements List
+ * The elements are kept in a tree of 32-slot arrays plus a tail array. The arrays are never changed once they are
+ * shared: add(), set() and removeLast() copy only the arrays on the path to the changed slot (O(log32 n) of them)
+ * and then publish the new version with a single volatile write. snapshot() and listIterator() capture the current
+ * version in O(1), so readers on any thread iterate without a lock while writers carry on.
+ * Writers are serialized with the list's own monitor.
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class PersistentList<E> implements List<E> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Version EMPTY = new Version(0, BITS, EMPTY_NODE, new Object[0]);
+
+    // data members
+    private volatile Version version;
+
+    /***
+     * Inner class holding one immutable version of the list
+     */
+    private static class Version {
+        final int size;
+        final int shift;
+        final Object[] root;
+        final Object[] tail;
+        /***
+         * Constructor with all arguments
+         * @param size - number of elements
+         * @param shift - bits of the index used below the root
+         * @param root - root of the tree holding every element before the tail
+         * @param tail - last 1 to 32 elements, not yet pushed into the tree
+         */
+        Version(int size, int shift, Object[] root, Object[] tail) {
+            this.size = size;
+            this.shift = shift;
+            this.root = root;
+            this.tail = tail;
+        }
+        /***
+         * Method to return the index of the first element held in the tail
+         * @return - index
+         */
+        int tailOffset() { //O(1)
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+        /***
+         * Method to return the leaf array holding an index
+         * @param index - index between 0 and size - 1
+         * @return - array whose slot (index & 31) holds the element
+         */
+        Object[] leaf(int index) { //O(log32 n)
+            if (index >= tailOffset())
+                return tail;
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS)
+                node = (Object[]) node[(index >>> level) & MASK];
+            return node;
+        }
+    }
+
+    /***
+     * Constructor with no arguments, makes an empty list
+     */
+    public PersistentList() { //O(1)
+        version = EMPTY;
+    }
+
+    /***
+     * Constructor with one argument, a version shared with another list
+     * @param version - version the new list starts from
+     */
+    private PersistentList(Version version) { //O(1)
+        this.version = version;
+    }
+
+    /***
+     * Method to return an independent list holding the current elements
+     * Nothing is copied; later changes to either list are not seen by the other
+     * @return - snapshot of the list
+     */
+    public PersistentList<E> snapshot() { //O(1)
+        return new PersistentList<>(version);
+    }
+
+    /***
+     * Method to add an item to the end of the list
+     * @param item - item being added
+     * @return - true if added
+     */
+    public synchronized boolean add(E item) { //O(log32 n), copies at most one array per level
+        Version v = version;
+        int inTail = v.size - v.tailOffset();
+        if (inTail < WIDTH) {
+            Object[] tail = new Object[inTail + 1];
+            System.arraycopy(v.tail, 0, tail, 0, inTail);
+            tail[inTail] = item;
+            version = new Version(v.size + 1, v.shift, v.root, tail);
+            return true;
+        }
+        // the tail is full: push it into the tree and start a new one
+        Object[] root;
+        int shift = v.shift;
+        if ((v.size >>> BITS) > (1 << v.shift)) {
+            root = new Object[WIDTH];
+            root[0] = v.root;
+            root[1] = newPath(v.shift, v.tail);
+            shift += BITS;
+        }
+        else {
+            root = pushTail(v.size, v.shift, v.root, v.tail);
+        }
+        version = new Version(v.size + 1, shift, root, new Object[] { item });
+        return true;
+    }
+
+    /***
+     * Method to return the object at the given index
+     * @param index - index that the value is being returned from
+     * @return - object at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E get(int index) { //O(log32 n)
+        Version v = version;
+        checkIndex(index, v.size);
+        return (E) v.leaf(index)[index & MASK];
+    }
+
+    /***
+     * Method to set the value of the object at the given index
+     * @param index - index being set
+     * @param item - value being set
+     * @return - previous value of the object at the index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public synchronized E set(int index, E item) { //O(log32 n), copies one array per level
+        Version v = version;
+        checkIndex(index, v.size);
+        E oldItem = (E) v.leaf(index)[index & MASK];
+        if (index >= v.tailOffset()) {
+            Object[] tail = v.tail.clone();
+            tail[index & MASK] = item;
+            version = new Version(v.size, v.shift, v.root, tail);
+        }
+        else {
+            version = new Version(v.size, v.shift, assoc(v.shift, v.root, index, item), v.tail);
+        }
+        return oldItem;
+    }
+
+    /***
+     * Method to remove the last item of the List
+     * @return - the item removed
+     * @throws NoSuchElementException - if the list is empty
+     */
+    public synchronized E removeLast() { //O(log32 n), copies at most one array per level
+        Version v = version;
+        if (v.size == 0)
+            throw new NoSuchElementException();
+        E item = (E) v.leaf(v.size - 1)[(v.size - 1) & MASK];
+        if (v.size == 1) {
+            version = EMPTY;
+            return item;
+        }
+        if (v.size - v.tailOffset() > 1) {
+            Object[] tail = new Object[v.tail.length - 1];
+            System.arraycopy(v.tail, 0, tail, 0, tail.length);
+            version = new Version(v.size - 1, v.shift, v.root, tail);
+            return item;
+        }
+        // the tail empties: the last leaf of the tree becomes the tail
+        Object[] tail = v.leaf(v.size - 2);
+        Object[] root = popTail(v.size, v.shift, v.root);
+        int shift = v.shift;
+        if (root == null)
+            root = EMPTY_NODE;
+        if (shift > BITS && root[1] == null) {
+            root = (Object[]) root[0];
+            shift -= BITS;
+        }
+        version = new Version(v.size - 1, shift, root, tail);
+        return item;
+    }
+
+    /***
+     * Method to make a chain of single-child nodes down to a leaf
+     * @param level - shift of the node being made
+     * @param leaf - leaf at the bottom of the chain
+     * @return - top of the chain
+     */
+    private static Object[] newPath(int level, Object[] leaf) { //O(log32 n)
+        if (level == 0)
+            return leaf;
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    /***
+     * Method to copy the path to the slot the full tail goes in and put it there
+     * @param size - size of the list before the add
+     * @param level - shift of the node
+     * @param parent - node being copied
+     * @param tail - full tail
+     * @return - copy of parent holding the tail
+     */
+    private static Object[] pushTail(int size, int level, Object[] parent, Object[] tail) { //O(log32 n)
+        int slot = ((size - 1) >>> level) & MASK;
+        Object[] node = parent.clone();
+        Object[] insert;
+        if (level == BITS) {
+            insert = tail;
+        }
+        else {
+            Object[] child = (Object[]) parent[slot];
+            insert = child != null ? pushTail(size, level - BITS, child, tail) : newPath(level - BITS, tail);
+        }
+        node[slot] = insert;
+        return node;
+    }
+
+    /***
+     * Method to copy the path to an index and change the element there
+     * @param level - shift of the node
+     * @param node - node being copied
+     * @param index - index being set
+     * @param item - new value
+     * @return - copy of node with the change
+     */
+    private static Object[] assoc(int level, Object[] node, int index, Object item) { //O(log32 n)
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = item;
+        }
+        else {
+            int slot = (index >>> level) & MASK;
+            copy[slot] = assoc(level - BITS, (Object[]) node[slot], index, item);
+        }
+        return copy;
+    }
+
+    /***
+     * Method to copy the path to the last leaf of the tree without that leaf
+     * @param size - size of the list before the remove
+     * @param level - shift of the node
+     * @param node - node being copied
+     * @return - copy of node without the last leaf, or null if nothing is left in it
+     */
+    private static Object[] popTail(int size, int level, Object[] node) { //O(log32 n)
+        int slot = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] child = popTail(size, level - BITS, (Object[]) node[slot]);
+            if (child == null && slot == 0)
+                return null;
+            Object[] copy = node.clone();
+            copy[slot] = child;
+            return copy;
+        }
+        if (slot == 0)
+            return null;
+        Object[] copy = node.clone();
+        copy[slot] = null;
+        return copy;
+    }
+
+    /***
+     * Method to return the size of the list
+     * @return - size of the List
+     */
+    public int size() { //O(1)
+        return version.size;
+    }
+
+    /***
+     * Method to check if the List is empty
+     * @return - if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (version.size == 0);
+    }
+
+    /***
+     * Method to make the list empty
+     */
+    public synchronized void clear() { //O(1)
+        version = EMPTY;
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @param size - size of the version being read
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to size
+     */
+    private static void checkIndex(int index, int size){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        return ListWriter.toString(this);
+    }
+
+    /***
+     * Inner class for a PersistentListIterator
+     * Walks the version that was current when it was made and keeps the leaf array it is in, so it follows the
+     * tree only once every 32 elements
+     */
+    private class PersistentListIterator implements ListIterator<E>{
+        private final Version v;
+        private final int size;
+        private int cursor;
+        private Object[] leaf;
+        private int leafStart = -WIDTH;
+        /***
+         * Constructor with two arguments
+         * @param v - version being iterated
+         * @param index - index of the element returned by the first call to next()
+         */
+        PersistentListIterator(Version v, int index){
+            this.v = v;
+            size = v.size;
+            cursor = index;
+        }
+        /***
+         * Method to return the element at an index, changing leaf when the index is outside it
+         * @param index - index being read
+         * @return - element at index
+         */
+        private E at(int index) { //O(1) inside the current leaf, O(log32 n) otherwise
+            if (index - leafStart >= WIDTH || index < leafStart) {
+                leaf = v.leaf(index);
+                leafStart = index & ~MASK;
+            }
+            return (E) leaf[index - leafStart];
+        }
+        /***
+         * Method to check if there is an element after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < size;
+        }
+        /***
+         * Method to return the next element
+         * @return - next element of type E in the list
+         * @throws NoSuchElementException if there is no next element
+         */
+        public E next() { //O(1) amortized
+            if (cursor >= size)
+                throw new NoSuchElementException();
+            return at(cursor++);
+        }
+        /***
+         * Method to check if there is an element before the cursor
+         * @return - true if the cursor is after the start
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous element
+         * @return - previous element of type E in the List
+         * @throws NoSuchElementException if there is no previous element
+         */
+        public E previous() { //O(1) amortized
+            if (cursor <= 0)
+                throw new NoSuchElementException();
+            return at(--cursor);
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index
+         */
+        public int nextIndex(){
+            return cursor;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index
+         */
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        /***
+         * Method that is not supported, the iterator reads a version that cannot change
+         * @throws UnsupportedOperationException - always
+         */
+        public void set(E value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the iterator reads a version that cannot change
+         * @throws UnsupportedOperationException - always
+         */
+        public void add(E value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the iterator reads a version that cannot change
+         * @throws UnsupportedOperationException - always
+         */
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /***
+     * Method that returns a ListIterator over the current version, beginning at the 0th index
+     * @return - ListIterator
+     */
+    public ListIterator<E> listIterator(){ //O(1)
+        return new PersistentListIterator(version, 0);
+    }
+
+    /***
+     * Method that returns a ListIterator over the current version, beginning at the specified index
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> listIterator(int index){ //O(1)
+        Version v = version;
+        if (index < 0 || index > v.size)
+            throw new ArrayIndexOutOfBoundsException();
+        return new PersistentListIterator(v, index);
+    }
+}
@@ -0,0 +1,298 @@
+import java.util.Arrays;
+import java.util.ListIterator;
+
+/***
+ * Class to model a sorted index over a List of Strings
+ * Keeps the Strings of the List in sorted order next to the position each one has in the List, so prefix,
+ * exact-match and range lookups are a binary search followed by a walk over the k matches: O(log n + k).
+ * The Strings are shared with the List, the index itself holds one reference and one int per element.
+ * Lookups return positions in the List, in sorted order of the Strings at them (equal Strings by position).
+ * The index stays correct as long as every change to the List is made through add() or reported with
+ * inserted() and removed().
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class PrefixIndex {
+    // data members
+    private final List<String> list;
+    // keys[i] is the String at positions[i] in the List, sorted by key and then by position
+    private String[] keys;
+    private int[] positions;
+    private int size;
+
+    /***
+     * Constructor with one argument, the List being indexed
+     * @param list - List of Strings, none of them null
+     * @throws NullPointerException if the List holds a null
+     */
+    public PrefixIndex(List<String> list) { //O(n log n)
+        this.list = list;
+        int n = list.size();
+        keys = new String[Math.max(n, 10)];
+        positions = new int[keys.length];
+        ListIterator<String> it = list.listIterator();
+        while (size < n && it.hasNext()) {
+            String key = it.next();
+            if (key == null)
+                throw new NullPointerException("List holds a null at position " + size);
+            keys[size] = key;
+            positions[size] = size;
+            size++;
+        }
+        sort();
+    }
+
+    /***
+     * Method to sort keys and positions together, a stable bottom-up merge sort so equal keys keep their positions in order
+     */
+    private void sort() { //O(n log n)
+        String[] keyBuffer = new String[size];
+        int[] positionBuffer = new int[size];
+        String[] fromKeys = keys;
+        int[] fromPositions = positions;
+        String[] toKeys = keyBuffer;
+        int[] toPositions = positionBuffer;
+        for (int width = 1; width < size; width <<= 1) {
+            for (int low = 0; low < size; low += width << 1) {
+                int middle = Math.min(low + width, size);
+                int high = Math.min(low + (width << 1), size);
+                int i = low;
+                int j = middle;
+                for (int k = low; k < high; k++) {
+                    if (j >= high || (i < middle && fromKeys[i].compareTo(fromKeys[j]) <= 0)) {
+                        toKeys[k] = fromKeys[i];
+                        toPositions[k] = fromPositions[i++];
+                    }
+                    else {
+                        toKeys[k] = fromKeys[j];
+                        toPositions[k] = fromPositions[j++];
+                    }
+                }
+            }
+            String[] keySwap = fromKeys;
+            fromKeys = toKeys;
+            toKeys = keySwap;
+            int[] positionSwap = fromPositions;
+            fromPositions = toPositions;
+            toPositions = positionSwap;
+        }
+        if (fromKeys != keys) {
+            System.arraycopy(fromKeys, 0, keys, 0, size);
+            System.arraycopy(fromPositions, 0, positions, 0, size);
+        }
+    }
+
+    /***
+     * Method to add a String to the end of the List and to the index
+     * @param value - String being added
+     * @return - true if added
+     * @throws NullPointerException if value is null
+     */
+    public boolean add(String value) { //O(log n) to find the slot, O(n) to open it
+        if (value == null)
+            throw new NullPointerException();
+        int position = list.size();
+        list.add(value);
+        insert(upperBound(value), value, position);
+        return true;
+    }
+
+    /***
+     * Method to record that a String was inserted into the List, every later position moves up by one
+     * @param position - position the String was inserted at
+     * @param value - String that was inserted
+     * @throws ArrayIndexOutOfBoundsException if the position is less than zero or greater than the size
+     * @throws NullPointerException if value is null
+     */
+    public void inserted(int position, String value) { //O(n)
+        if (position < 0 || position > size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+size);
+        if (value == null)
+            throw new NullPointerException();
+        for (int i = 0; i < size; i++)
+            if (positions[i] >= position)
+                positions[i]++;
+        // among equal keys, the new one goes before the first one that is now after it in the List
+        int slot = lowerBound(value);
+        while (slot < size && positions[slot] < position && keys[slot].equals(value))
+            slot++;
+        insert(slot, value, position);
+    }
+
+    /***
+     * Method to record that a String was removed from the List, every later position moves down by one
+     * @param position - position the String was removed from
+     * @param value - String that was removed
+     * @throws IllegalArgumentException if the index does not hold value at that position
+     */
+    public void removed(int position, String value) { //O(n)
+        int slot = lowerBound(value);
+        while (slot < size && positions[slot] != position && keys[slot].equals(value))
+            slot++;
+        if (slot == size || positions[slot] != position || !keys[slot].equals(value))
+            throw new IllegalArgumentException("Index does not hold \"" + value + "\" at position " + position);
+        System.arraycopy(keys, slot + 1, keys, slot, size - slot - 1);
+        System.arraycopy(positions, slot + 1, positions, slot, size - slot - 1);
+        size--;
+        keys[size] = null;
+        for (int i = 0; i < size; i++)
+            if (positions[i] > position)
+                positions[i]--;
+    }
+
+    /***
+     * Method to put a key and its position into a slot of the sorted arrays
+     * @param slot - slot that keeps the arrays sorted
+     * @param key - String being inserted
+     * @param position - position of the String in the List
+     */
+    private void insert(int slot, String key, int position) { //O(n)
+        if (size == keys.length) {
+            int capacity = Math.max((int) (keys.length * 1.5), size + 1);
+            keys = Arrays.copyOf(keys, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+        }
+        System.arraycopy(keys, slot, keys, slot + 1, size - slot);
+        System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+        keys[slot] = key;
+        positions[slot] = position;
+        size++;
+    }
+
+    /***
+     * Method to return the positions of the Strings that start with a prefix
+     * @param prefix - prefix being looked up, "" matches every String
+     * @return - positions in the List, in sorted order of their Strings
+     */
+    public IntArrayList prefix(String prefix) { //O(log n + k)
+        int from = lowerBound(prefix);
+        return slice(from, prefixEnd(prefix, from));
+    }
+
+    /***
+     * Method to return the positions of the Strings equal to a value
+     * @param value - String being looked up
+     * @return - positions in the List, from first to last
+     */
+    public IntArrayList exact(String value) { //O(log n + k)
+        return slice(lowerBound(value), upperBound(value));
+    }
+
+    /***
+     * Method to return the positions of the Strings between two values
+     * @param from - lowest String returned
+     * @param to - Strings equal to or after this one are not returned
+     * @return - positions in the List, in sorted order of their Strings
+     */
+    public IntArrayList range(String from, String to) { //O(log n + k)
+        int start = lowerBound(from);
+        return slice(start, Math.max(start, lowerBound(to)));
+    }
+
+    /***
+     * Method to return the number of Strings that start with a prefix without collecting them
+     * @param prefix - prefix being looked up
+     * @return - number of matches
+     */
+    public int countPrefix(String prefix) { //O(log n)
+        int from = lowerBound(prefix);
+        return prefixEnd(prefix, from) - from;
+    }
+
+    /***
+     * Method to find the first slot after a prefix's matches
+     * Every key from the prefix's lower bound on that starts with the prefix sorts before every key that does not
+     * @param prefix - prefix being looked up
+     * @param from - lower bound of the prefix
+     * @return - slot after the last match
+     */
+    private int prefixEnd(String prefix, int from) { //O(log n)
+        int low = from;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].startsWith(prefix))
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /***
+     * Method to copy a run of positions into a new IntArrayList
+     * @param from - first slot
+     * @param to - slot after the last one
+     * @return - positions in the slots
+     */
+    private IntArrayList slice(int from, int to) { //O(k)
+        IntArrayList result = new IntArrayList(to - from);
+        for (int i = from; i < to; i++)
+            result.add(positions[i]);
+        return result;
+    }
+
+    /***
+     * Method to find the first slot whose key is not before a value
+     * @param value - value being searched for
+     * @return - slot between 0 and size
+     */
+    private int lowerBound(String value) { //O(log n)
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(value) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /***
+     * Method to find the first slot whose key is after a value
+     * @param value - value being searched for
+     * @return - slot between 0 and size
+     */
+    private int upperBound(String value) { //O(log n)
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(value) <= 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /***
+     * Method to return the number of Strings in the index
+     * @return - size of the index
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to trim the capacity of the index to its size
+     */
+    public void trimToSize() { //O(n)
+        if (size != keys.length) {
+            keys = Arrays.copyOf(keys, size);
+            positions = Arrays.copyOf(positions, size);
+        }
+    }
+
+    /***
+     * Method to return the heap held by the index, not counting the Strings, which belong to the List
+     * Assumes 4 byte references and 16 byte array headers, the defaults for heaps under 32GB
+     * @return - bytes used by the two arrays
+     */
+    public long footprintBytes() { //O(1)
+        return 2 * 16L + (long) keys.length * (4 + Integer.BYTES);
+    }
+}
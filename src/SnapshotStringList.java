@@ -0,0 +1,216 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/***
+ * Class to model a read-only List of the Strings in a snapshot file written by ListSnapshot that implements List
+ * Opening the file checks its checksum, table and codes and records where each table entry starts, nothing is
+ * decoded: the bytes stay in the memory mapped file and become a String when get() or an iterator reaches them
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class SnapshotStringList implements List<String> {
+    // data members
+    private final MappedByteBuffer buffer;
+    // offsets[i] is where the varint of table entry i starts
+    private final int[] offsets;
+    private final int size;
+    // Offset of the first code and bytes per code, codeBytes is 0 when the file has no dictionary
+    private final int codesStart;
+    private final int codeBytes;
+
+    /***
+     * Constructor with one argument, the snapshot being opened
+     * @param filename - file being read from
+     * @throws IOException if the file cannot be mapped or is not a valid snapshot, including a checksum mismatch
+     */
+    public SnapshotStringList(String filename) throws IOException { //O(n)
+        buffer = ListSnapshot.map(filename);
+        size = buffer.getInt(ListSnapshot.COUNT);
+        codeBytes = buffer.get(ListSnapshot.CODE_BYTES);
+        int tableCount = buffer.getInt(ListSnapshot.TABLE_COUNT);
+        offsets = new int[tableCount];
+        int position = ListSnapshot.HEADER;
+        for (int i = 0; i < tableCount; i++) {
+            offsets[i] = position;
+            int length = ListSnapshot.varint(buffer, position);
+            position += ListSnapshot.varintBytes(length) + Math.max(length - 1, 0);
+        }
+        codesStart = position;
+    }
+
+    /***
+     * Method that is not supported, the list is a read-only view of the file
+     * @throws UnsupportedOperationException - always
+     */
+    public boolean add(String value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /***
+     * Method to return the String at the given index, decoding it from the file
+     * @param index - index that the value is being returned from
+     * @return - String at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public String get(int index) { //O(length of the String)
+        checkIndex(index);
+        int entry = codeBytes == 0 ? index : ListSnapshot.code(buffer, codesStart, index, codeBytes);
+        int position = offsets[entry];
+        int length = ListSnapshot.varint(buffer, position);
+        if (length == 0)
+            return null;
+        byte[] bytes = new byte[length - 1];
+        buffer.get(position + ListSnapshot.varintBytes(length), bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /***
+     * Method to return the size of the list
+     * @return - number of Strings
+     */
+    public int size() { //O(1)
+        return size;
+    }
+
+    /***
+     * Method to check if the list is empty
+     * @return - if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+
+    /***
+     * Method to return the heap used by the index, not counting the mapped file
+     * @return - approximate number of bytes
+     */
+    public long indexBytes() { //O(1)
+        return 16L + 4L * offsets.length;
+    }
+
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the List
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        return ListWriter.toString(this);
+    }
+
+    /***
+     * Inner class for a SnapshotStringListIterator
+     * The cursor sits between elements: next() returns the String at the cursor, previous() the String before it
+     */
+    private class SnapshotStringListIterator implements ListIterator<String>{
+        private int cursor;
+        /***
+         * Constructor with one argument
+         * @param index - index of the String returned by the first call to next()
+         */
+        SnapshotStringListIterator(int index){
+            cursor = index;
+        }
+        /***
+         * Method to check if there is a String after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return cursor < size;
+        }
+        /***
+         * Method to return the next String
+         * @return - next String in the list
+         * @throws NoSuchElementException if there is no next String
+         */
+        public String next() { //O(length of the String)
+            if (cursor >= size)
+                throw new NoSuchElementException();
+            return get(cursor++);
+        }
+        /***
+         * Method to check if there is a String before the cursor
+         * @return - true if the cursor is after the start
+         */
+        public boolean hasPrevious() { //O(1)
+            return cursor > 0;
+        }
+        /***
+         * Method to return the previous String
+         * @return - previous String in the list
+         * @throws NoSuchElementException if there is no previous String
+         */
+        public String previous() { //O(length of the String)
+            if (cursor <= 0)
+                throw new NoSuchElementException();
+            return get(--cursor);
+        }
+        /***
+         * Method to return the index of the String next() would return
+         * @return - index
+         */
+        public int nextIndex(){
+            return cursor;
+        }
+        /***
+         * Method to return the index of the String previous() would return
+         * @return - index
+         */
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        /***
+         * Method that is not supported, the list is read-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void set(String value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the list is read-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void add(String value){
+            throw new UnsupportedOperationException();
+        }
+        /***
+         * Method that is not supported, the list is read-only
+         * @throws UnsupportedOperationException - always
+         */
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the 0th index of the List
+     * @return - ListIterator
+     */
+    public ListIterator<String> listIterator(){ //O(1)
+        return new SnapshotStringListIterator(0);
+    }
+
+    /***
+     * Method that returns a ListIterator that begins at the specified index of the List
+     * @param - index of the String returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<String> listIterator(int index){ //O(1)
+        if (index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException();
+        return new SnapshotStringListIterator(index);
+    }
+}
@@ -1,13 +1,15 @@
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.util.ListIterator;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.Scanner;
 
 /***
  * Class to test ArrayList, LinkedList, and DoublyLinkedLists and print them both forwards and backwards
  * @author Marco Clark
  * Date Created: 3/31/2022
- * Date Last Modified: 4/16/2022
+ * Date Last Modified: 10/18/2026
  */
 public class Test {
 
@@ -56,28 +58,34 @@ public class Test {
     }
     /***
      * Method to print a list forward
+     * The list is written in large blocks through ListWriter instead of one print per element
      * @param <E> - Data type being printed
      * @param list - list being printed
      */
     public static <E> void printListForward(List<E> list){
-        ListIterator<E> li = list.listIterator();
-        System.out.print("[");
-        while (li.hasNext()){
-            System.out.print(li.next() + " ");
+        Writer out = new OutputStreamWriter(System.out);
+        try{
+            ListWriter.writeForward(list, out);
+            out.write(System.lineSeparator());
+            out.flush();
+        }catch (IOException e){
+            System.out.println(e.getMessage());
         }
-        System.out.println("]");
     }
     /***
      * Method to print a list backward
+     * The list is written in large blocks through ListWriter instead of one print per element
      * @param <E> - Data type being printed
      * @param list - list being printed
      */
     public static <E> void printListBackward(List<E> list){
-        ListIterator<E> li = list.listIterator(list.size());
-        System.out.print("[");
-        while (li.hasPrevious()){
-            System.out.print(li.previous() + " ");
+        Writer out = new OutputStreamWriter(System.out);
+        try{
+            ListWriter.writeBackward(list, out);
+            out.write(System.lineSeparator());
+            out.flush();
+        }catch (IOException e){
+            System.out.println(e.getMessage());
         }
-        System.out.println("]");
     }
 }
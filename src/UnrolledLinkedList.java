@@ -0,0 +1,464 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/***
+ * Class to model an Unrolled Linked List that implements List
+ * Each node holds a small array of elements instead of a single value, so a traversal follows one pointer per
+ * chunk and reads the elements inside a chunk from contiguous memory
+ * @author Marco Clark
+ * Date Created: 10/18/2026
+ * Date Last Modified: 10/18/2026
+ */
+public class UnrolledLinkedList<E> implements List<E> {
+    // Data members
+    private Node head, tail;
+    private int size;
+    private final int chunkCapacity;
+    // Number of changes to the size, iterators compare it with the count they saw to fail fast
+    private int modCount;
+    /***
+     * Inner Class to model a node holding up to chunkCapacity elements
+     */
+    private class Node{
+        final E[] values;
+        int count;
+        Node next;
+        Node previous;
+        /***
+         * Constructor with no arguments, makes an empty chunk
+         */
+        Node(){
+            values = (E[]) new Object[chunkCapacity];
+            count = 0;
+        }
+    }
+    /***
+     * Constructor with no arguments
+     * Makes an empty list with 64 elements per node
+     */
+    public UnrolledLinkedList() { //O(1)
+        this(64);
+    }
+    /***
+     * Constructor with one argument, the number of elements each node holds
+     * @param chunkCapacity - elements per node, at least 2
+     * @throws IllegalArgumentException if chunkCapacity is less than 2
+     */
+    public UnrolledLinkedList(int chunkCapacity) { //O(1)
+        if (chunkCapacity < 2)
+            throw new IllegalArgumentException("Chunk capacity must be at least 2");
+        this.chunkCapacity = chunkCapacity;
+        head = tail = null;
+        size = 0;
+    }
+    /***
+     * Method to add an item to the end of the list
+     * @param item - item being added
+     * @return - true if added
+     */
+    public boolean add(E item) { //O(1)
+        if (tail == null || tail.count == chunkCapacity)
+            linkAfter(tail, new Node());
+        tail.values[tail.count++] = item;
+        size++;
+        modCount++;
+        return true;
+    }
+    /***
+     * Method to add an item at the given index
+     * A full node is split in half first, so the elements moved are bounded by the chunk size
+     * @param index - index being added at
+     * @param item - item being added
+     * @return - true if added
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public boolean add(int index, E item) { //O(n / chunk) to find the node, O(chunk) to insert
+        if (index > size || index < 0)
+            throw new ArrayIndexOutOfBoundsException();
+        if (index == size)
+            return add(item);
+        Node node = head;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+        insertAt(node, offset, item);
+        return true;
+    }
+    /***
+     * Method to insert an element into a node, splitting the node first if it is full
+     * @param node - node the element goes into
+     * @param offset - index in the node the element goes at, between 0 and the node's count
+     * @param item - item being added
+     * @return - the node holding the element, the new upper half when the node was split and the offset fell in it
+     */
+    private Node insertAt(Node node, int offset, E item) { //O(chunk)
+        if (node.count == chunkCapacity) {
+            Node right = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = right;
+            }
+        }
+        System.arraycopy(node.values, offset, node.values, offset + 1, node.count - offset);
+        node.values[offset] = item;
+        node.count++;
+        size++;
+        modCount++;
+        return node;
+    }
+    /***
+     * Method to return the object at the given index
+     * @param index - index that the value is being returned from
+     * @return - object at index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E get(int index) { //O(n / chunk)
+        checkIndex(index);
+        Node node = head;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        return node.values[index];
+    }
+    /***
+     * Method to set the value of the object at the given index
+     * @param index - index being set
+     * @param item - value being set
+     * @return - previous value of the object at the index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E set(int index, E item) { //O(n / chunk)
+        checkIndex(index);
+        Node node = head;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        E oldItem = node.values[index];
+        node.values[index] = item;
+        return oldItem;
+    }
+    /***
+     * Method to remove the object at a specific index
+     * A node left less than half full is merged with its successor when both fit in one node
+     * @param index - index the object is removed from
+     * @return - the item at the index
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size
+     */
+    public E remove(int index) { //O(n / chunk) to find the node, O(chunk) to remove
+        checkIndex(index);
+        Node node = head;
+        while (index >= node.count) {
+            index -= node.count;
+            node = node.next;
+        }
+        return removeAt(node, index);
+    }
+    /***
+     * Method to remove an element from a node, merging or unlinking the node if it becomes small
+     * @param node - node holding the element
+     * @param offset - index of the element in the node
+     * @return - the element removed
+     */
+    private E removeAt(Node node, int offset) { //O(chunk)
+        E item = node.values[offset];
+        System.arraycopy(node.values, offset + 1, node.values, offset, node.count - offset - 1);
+        node.values[--node.count] = null;
+        size--;
+        modCount++;
+        if (node.count == 0) {
+            unlink(node);
+        }
+        else if (node.count < chunkCapacity / 2 && node.next != null
+                && node.count + node.next.count <= chunkCapacity) {
+            Node next = node.next;
+            System.arraycopy(next.values, 0, node.values, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        }
+        return item;
+    }
+    /***
+     * Method to move the upper half of a full node into a new node linked after it
+     * @param node - node being split
+     * @return - the new node
+     */
+    private Node split(Node node) { //O(chunk)
+        Node right = new Node();
+        int keep = node.count / 2;
+        right.count = node.count - keep;
+        System.arraycopy(node.values, keep, right.values, 0, right.count);
+        Arrays.fill(node.values, keep, node.count, null);
+        node.count = keep;
+        linkAfter(node, right);
+        return right;
+    }
+    /***
+     * Method to link a node into the chain
+     * @param before - node the new node follows, null to make it the head
+     * @param node - node being linked
+     */
+    private void linkAfter(Node before, Node node) { //O(1)
+        node.previous = before;
+        node.next = before == null ? head : before.next;
+        if (node.next == null)
+            tail = node;
+        else
+            node.next.previous = node;
+        if (before == null)
+            head = node;
+        else
+            before.next = node;
+    }
+    /***
+     * Method to take a node out of the chain
+     * @param node - node being removed
+     */
+    private void unlink(Node node) { //O(1)
+        if (node.previous == null)
+            head = node.next;
+        else
+            node.previous.next = node.next;
+        if (node.next == null)
+            tail = node.previous;
+        else
+            node.next.previous = node.previous;
+        node.next = node.previous = null;
+    }
+    /***
+     * Method to check if a index value is valid
+     * @param index - index being checked
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than or equal to the size of the List
+     */
+    private void checkIndex(int index){ //O(1)
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException("Index out of bounds. Must be between 0 and "+(size-1));
+    }
+    /***
+     * Method to return the String reppresentation of the List
+     * @return - String of the List
+     */
+    public String toString() { //O(n)
+        StringBuilder output = new StringBuilder("[");
+        for (Node node = head; node != null; node = node.next)
+            for (int i = 0; i < node.count; i++)
+                output.append(node.values[i]).append(' ');
+        return output.append(']').toString();
+    }
+    /***
+     * Method to make the list empty
+     * Sets size equal to zero, head and tail equal to null
+     */
+    public void clear() { //O(1)
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+    /***
+     * Method to check if the List is empty
+     * @return - if the size equals zero
+     */
+    public boolean isEmpty() { //O(1)
+        return (size == 0);
+    }
+    /***
+     * Method to return the size of the list
+     * @return - size of the List
+     */
+    public int size() { //O(1)
+        return size;
+    }
+    /***
+     * Inner class for an UnrolledLinkedListIterator
+     * The cursor sits between elements and is kept as a node and an offset into it, so stepping inside a node
+     * is an array access and only crossing to the next or previous node follows a pointer
+     * Fail-fast: any change to the size of the List not made through this iterator makes its next call throw
+     * ConcurrentModificationException.
+     */
+    private class UnrolledLinkedListIterator implements ListIterator<E>{
+        private Node node;
+        private int offset;
+        private int index;
+        // node and offset of the element returned by the last next() or previous(), lastOffset is -1 after add() or remove()
+        private Node lastNode;
+        private int lastOffset = -1;
+        private int expectedModCount = modCount;
+        /***
+         * Constructor with one argument
+         * @param index - index of the element returned by the first call to next()
+         */
+        UnrolledLinkedListIterator(int index){ //O(n / chunk)
+            this.index = index;
+            node = head;
+            offset = index;
+            while (node != null && offset > node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+        }
+        /***
+         * Method to check if there is an element after the cursor
+         * @return - true if the cursor is before the end
+         */
+        public boolean hasNext() { //O(1)
+            return index < size;
+        }
+        /***
+         * Method to return the next element
+         * @return - next element of type E in the list
+         * @throws NoSuchElementException if there is no next element
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public E next() { //O(1)
+            checkForComodification();
+            if (index >= size)
+                throw new NoSuchElementException();
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            index++;
+            lastNode = node;
+            lastOffset = offset;
+            return node.values[offset++];
+        }
+        /***
+         * Method to check if there is an element before the cursor
+         * @return - true if the cursor is after the start
+         */
+        public boolean hasPrevious() { //O(1)
+            return index > 0;
+        }
+        /***
+         * Method to return the previous element
+         * @return - previous element of type E in the List
+         * @throws NoSuchElementException if there is no previous element
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public E previous() { //O(1)
+            checkForComodification();
+            if (index <= 0)
+                throw new NoSuchElementException();
+            if (offset == 0) {
+                node = node.previous;
+                offset = node.count;
+            }
+            index--;
+            lastNode = node;
+            lastOffset = --offset;
+            return node.values[offset];
+        }
+        /***
+         * Method to return the index of the element next() would return
+         * @return - index
+         */
+        public int nextIndex(){
+            return index;
+        }
+        /***
+         * Method to return the index of the element previous() would return
+         * @return - index
+         */
+        public int previousIndex(){
+            return index - 1;
+        }
+        /***
+         * Method to replace the element last returned by next() or previous()
+         * @param value - new value
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void set(E value){ //O(1)
+            if (lastOffset < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            lastNode.values[lastOffset] = value;
+        }
+        /***
+         * Method to insert an element at the cursor, before the element next() would return
+         * @param value - value being added
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void add(E value){ //O(chunk)
+            checkForComodification();
+            if (node == null) {
+                UnrolledLinkedList.this.add(value);
+                node = tail;
+                offset = 1;
+            }
+            else {
+                Node target = insertAt(node, offset, value);
+                if (target != node) {
+                    offset -= node.count;
+                    node = target;
+                }
+                offset++;
+            }
+            index++;
+            lastOffset = -1;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to remove the element last returned by next() or previous()
+         * The cursor is always in the node of that element, which removeAt() may merge with the next node or unlink
+         * @throws IllegalStateException if neither was called since the last add() or remove()
+         * @throws ConcurrentModificationException if the List was changed by something else
+         */
+        public void remove(){ //O(chunk)
+            if (lastOffset < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+            if (offset != lastOffset)
+                index--; // returned by next(), the cursor was after it
+            Node before = lastNode.previous;
+            Node after = lastNode.next;
+            removeAt(lastNode, lastOffset);
+            if (lastNode.count > 0) {
+                node = lastNode;
+                offset = lastOffset;
+            }
+            else if (before != null) {
+                node = before;
+                offset = before.count;
+            }
+            else {
+                node = after;
+                offset = 0;
+            }
+            lastNode = null;
+            lastOffset = -1;
+            expectedModCount = modCount;
+        }
+        /***
+         * Method to check that the List was only changed through this iterator
+         * @throws ConcurrentModificationException if it was not
+         */
+        private void checkForComodification(){ //O(1)
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+    /***
+     * Method that returns a ListIterator that begins at the 0th index of the List
+     * @return - ListIterator
+     */
+    public ListIterator<E> listIterator(){ //O(1)
+        return new UnrolledLinkedListIterator(0);
+    }
+    /***
+     * Method that returns a ListIterator that begins at the specified index of the List
+     * @param - index of the element returned by the first call to next(), size() to start at the end
+     * @return - ListIterator
+     * @throws ArrayIndexOutOfBoundsException if the index is less than zero or greater than the size
+     */
+    public ListIterator<E> listIterator(int index){ //O(n / chunk)
+        if (index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException();
+        return new UnrolledLinkedListIterator(index);
+    }
+}